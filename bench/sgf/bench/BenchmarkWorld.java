@@ -0,0 +1,170 @@
+package sgf.bench;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import sgf.controller.enemy.EnemyController;
+import sgf.controller.game.PlayerController;
+import sgf.controller.game.PlayerControllerImpl;
+import sgf.helpers.ImgTileSize;
+import sgf.helpers.LevelLoaderImpl;
+import sgf.managers.DamageQueue;
+import sgf.managers.DamageQueueImpl;
+import sgf.managers.EnemyManager;
+import sgf.managers.EnemyManagerImpl;
+import sgf.managers.EnemyProgressIndex;
+import sgf.managers.EnemyProgressIndexImpl;
+import sgf.managers.GameLoopImpl;
+import sgf.managers.LeaderboardManager;
+import sgf.managers.LevelManager;
+import sgf.managers.LevelManagerImpl;
+import sgf.model.enemies.Enemy;
+import sgf.model.enemies.EnemyFactory;
+import sgf.model.enemies.EnemyFactoryImpl;
+import sgf.model.game.Leaderboard;
+import sgf.model.game.LeaderboardImpl;
+import sgf.model.game.PlayerImpl;
+import sgf.model.level.Level;
+import sgf.model.map.Map;
+import sgf.model.map.Path;
+import sgf.model.map.Position;
+import sgf.utilities.SpatialGrid;
+import sgf.utilities.SpatialGridImpl;
+import sgf.view.enemy.EnemyView;
+
+/**
+ * Fixture shared by the benchmarks: the map of the first level, with any number of enemies spread along its path.
+ * Enemies are kept in the same structures the game keeps them in, but they are added directly instead of being spawned by waves,
+ * so a benchmark can start with thousands of them. Enemies are placed from a fixed seed, so every run measures the same world.
+ */
+class BenchmarkWorld implements EnemyController {
+    /**
+     * Length of a tick used by the benchmarks, the one of the game.
+     */
+    static final int TICK_LENGTH = GameLoopImpl.DEFAULT_TICK_LENGTH;
+    private static final int LEVEL = 1;
+    private static final long SEED = 42;
+    private static final double MIN_HP = 50;
+    private static final double MAX_HP = 500;
+    private static final double SPEED = 1;
+    private final Level level = new LevelLoaderImpl().loadLevel(LEVEL);
+    private final LevelManager levelManager = new LevelManagerImpl(this.level);
+    private final PlayerController playerController = new PlayerControllerImpl(new PlayerImpl(), new LeaderboardManager() {
+        private final Leaderboard scores = new LeaderboardImpl();
+
+        @Override
+        public void writeScore() {
+            // Benchmarks don't end up in the leaderboard file.
+        }
+
+        @Override
+        public void addScore(final String name, final int score) {
+        }
+
+        @Override
+        public Leaderboard getLeaderboard() {
+            return this.scores;
+        }
+    });
+    private final EnemyFactory factory = new EnemyFactoryImpl();
+    private final Random random = new Random(SEED);
+    private final Collection<EnemyManager> managers = ConcurrentHashMap.newKeySet();    // Enemies can leave while being iterated.
+    private final SpatialGrid<EnemyManager> enemyGrid = new SpatialGridImpl<>(ImgTileSize.getTileSize(), this.getMap().getSize());
+    private final EnemyProgressIndex progressIndex = new EnemyProgressIndexImpl();
+    private final DamageQueue damageQueue = new DamageQueueImpl();
+    private final int enemies;
+
+    /**
+     * Creates the world with the given number of enemies, spread evenly along the path.
+     * @param enemies the number of enemies
+     */
+    BenchmarkWorld(final int enemies) {
+        this.enemies = enemies;
+        final double length = this.getPath().getLength();
+        for (int i = 0; i < enemies; i++) {
+            this.addEnemy(length * i / enemies);
+        }
+        this.progressIndex.update();
+    }
+
+    /**
+     * Gives the map of the world.
+     * @return the {@link Map}
+     */
+    Map getMap() {
+        return this.level.getMap();
+    }
+
+    /**
+     * Gives the path walked by the enemies.
+     * @return the {@link Path}
+     */
+    Path getPath() {
+        return this.getMap().getPath();
+    }
+
+    /**
+     * Replaces the enemies that have left the map with new ones at the start of the path, so their number stays the same.
+     */
+    void refill() {
+        if (this.managers.size() < this.enemies) {
+            for (int i = this.managers.size(); i < this.enemies; i++) {
+                this.addEnemy(0);
+            }
+            this.progressIndex.update();
+        }
+    }
+
+    // Creates an enemy with random HP, already moved along the path.
+    private void addEnemy(final double progress) {
+        final Position start = this.getPath().getPositionAt(0);
+        final Enemy enemy = this.factory.createGeneralTank(start, MIN_HP + this.random.nextDouble() * (MAX_HP - MIN_HP), SPEED);
+        enemy.moveAlong(this.getPath(), progress);
+        final EnemyManager manager = new EnemyManagerImpl(enemy, this.levelManager, this, this.playerController, TICK_LENGTH);
+        this.managers.add(manager);
+        this.enemyGrid.add(manager, manager.getCell());
+        this.progressIndex.add(enemy);
+    }
+
+    @Override
+    public void setView(final EnemyView view) {
+        // The world is never shown.
+    }
+
+    @Override
+    public void stop() {
+        // Nothing runs in the background.
+    }
+
+    @Override
+    public void removeEnemy(final EnemyManager enemyManager) {
+        this.managers.remove(enemyManager);
+        this.enemyGrid.remove(enemyManager, enemyManager.getCell());
+        this.progressIndex.remove(enemyManager.getEnemy());
+    }
+
+    @Override
+    public Collection<EnemyManager> getManagers() {
+        return this.managers;
+    }
+
+    @Override
+    public SpatialGrid<EnemyManager> getEnemyGrid() {
+        return this.enemyGrid;
+    }
+
+    @Override
+    public EnemyProgressIndex getProgressIndex() {
+        return this.progressIndex;
+    }
+
+    @Override
+    public boolean isLevelOver() {
+        return false;
+    }
+
+    @Override
+    public DamageQueue getDamageQueue() {
+        return this.damageQueue;
+    }
+}
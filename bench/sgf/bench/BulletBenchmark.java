@@ -0,0 +1,90 @@
+package sgf.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import sgf.helpers.ImgTileSize;
+import sgf.helpers.TurretsLoaderImpl;
+import sgf.managers.BulletManagerImpl;
+import sgf.managers.EnemyManager;
+import sgf.managers.EnemyManagerImpl;
+import sgf.model.bullet.BulletFactoryImpl;
+import sgf.model.map.GridPosition;
+import sgf.model.map.Path;
+import sgf.model.map.Position;
+import sgf.model.turret.Turret;
+import sgf.utilities.PositionConverter;
+
+/**
+ * Measures the work done for the bullets in flight, as their number grows. Bullets are not steered at every tick: each one is
+ * aimed once, when it is fired, at the point where it meets its target, and its position in between is only computed to draw it.
+ * So the hot paths are aiming a bullet and finding where it is at a given time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulletBenchmark {
+    private static final int ROW = 5;       // Grass tile next to several stretches of the path of the first level.
+    private static final int COLUMN = 6;
+    private static final double HALF = 0.5;
+    private static final long FIRE_TICK = 0;
+    @Param({"10", "100", "1000", "10000"})
+    private int bullets;
+    private final List<BulletManagerImpl> managers = new ArrayList<>();
+    private double[] steps;     // Distance travelled in a tick by the target of each bullet.
+    private final Position position = new Position(0, 0);
+    private Path path;
+
+    /**
+     * Fires a bullet from the same turret at every enemy of a world with as many enemies as bullets.
+     */
+    @Setup
+    public void setUp() {
+        final BenchmarkWorld world = new BenchmarkWorld(this.bullets);
+        this.path = world.getPath();
+        final Turret turret = new TurretsLoaderImpl().getTurrets().values().iterator().next().getClone();
+        turret.setPosition(new PositionConverter(ImgTileSize.getTileSize()).convertToPosition(new GridPosition(ROW, COLUMN)));
+        turret.setBulletFactory(new BulletFactoryImpl());
+        this.steps = new double[this.bullets];
+        for (final EnemyManager enemy : world.getManagers()) {
+            turret.setTarget(enemy.getEnemy());
+            // The bullet controller is only needed to remove the bullet when it lands, which is not measured.
+            this.managers.add(new BulletManagerImpl(turret.createBullet(), null, BenchmarkWorld.TICK_LENGTH, world.getDamageQueue()));
+            this.steps[this.managers.size() - 1] = EnemyManagerImpl.getStepLength(enemy.getEnemy(), BenchmarkWorld.TICK_LENGTH);
+        }
+        this.launch();
+    }
+
+    /**
+     * Aims every bullet at its target.
+     */
+    @Benchmark
+    public void launch() {
+        for (int i = 0; i < this.managers.size(); i++) {
+            this.managers.get(i).launch(this.path, FIRE_TICK, this.steps[i]);
+        }
+    }
+
+    /**
+     * Finds where every bullet is halfway through its flight, as done when drawing a frame.
+     * @param blackhole the {@link Blackhole} that consumes the positions
+     */
+    @Benchmark
+    public void positionAt(final Blackhole blackhole) {
+        for (final BulletManagerImpl manager : this.managers) {
+            final double middle = FIRE_TICK + (manager.getBullet().getImpactTick() - FIRE_TICK) * HALF;
+            manager.getBullet().getPositionAt(middle, this.position);
+            blackhole.consume(this.position.getX());
+            blackhole.consume(this.position.getY());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package sgf.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sgf.managers.EnemyManager;
+import sgf.managers.EnemyManagerImpl;
+import sgf.managers.TickPhase;
+
+/**
+ * Measures the movement phase of a tick, as the number of enemies on the map grows: every {@link EnemyManagerImpl} takes a step
+ * along the path, moving across the cells of the enemy grid, then the progress index is sorted again.
+ * Enemies that reach the end of the path are replaced at its start, so the number of enemies moved stays the same.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnemyMovementBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    private int enemies;
+    private BenchmarkWorld world;
+
+    /**
+     * Spreads the enemies along the path of the first level.
+     */
+    @Setup
+    public void setUp() {
+        this.world = new BenchmarkWorld(this.enemies);
+    }
+
+    /**
+     * Runs the {@link TickPhase#MOVEMENT} phase of a tick.
+     */
+    @Benchmark
+    public void movementTick() {
+        for (final EnemyManager manager : this.world.getManagers()) {
+            manager.update();
+        }
+        this.world.getProgressIndex().update();
+        this.world.refill();
+    }
+}
@@ -0,0 +1,81 @@
+package sgf.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import sgf.helpers.MapLoaderImpl;
+import sgf.model.map.DenseMapImpl;
+import sgf.model.map.GridPosition;
+import sgf.model.map.Map;
+import sgf.model.map.MapImpl;
+
+/**
+ * Measures tile lookups on the map of the first level, comparing the {@link MapImpl} backed by a hash map with the
+ * {@link DenseMapImpl} backed by arrays, over as many random cells as given.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapBenchmark {
+    private static final long SEED = 42;
+    private static final int LEVEL = 1;
+    @Param({"10", "100", "1000", "10000"})
+    private int lookups;
+    @Param({"hash", "dense"})
+    private String implementation;
+    private Map map;
+    private GridPosition[] cells;
+
+    /**
+     * Copies the map of the first level in the measured implementation, and picks the cells to look up.
+     */
+    @Setup
+    public void setUp() {
+        final Map loaded = new MapLoaderImpl(LEVEL).getMap();
+        final int size = loaded.getSize();
+        this.map = "hash".equals(this.implementation) ? new MapImpl() : new DenseMapImpl();
+        this.map.setMapSize(size);
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                if (loaded.getTileType(row, column) != null) {
+                    this.map.setTile(row, column, loaded.getTileType(row, column));
+                }
+            }
+        }
+        final Random random = new Random(SEED);
+        this.cells = new GridPosition[this.lookups];
+        for (int i = 0; i < this.lookups; i++) {
+            this.cells[i] = new GridPosition(random.nextInt(size), random.nextInt(size));
+        }
+    }
+
+    /**
+     * Measures {@link Map#getTileFromGridPosition(GridPosition)}.
+     * @param blackhole the {@link Blackhole} that consumes the tiles
+     */
+    @Benchmark
+    public void getTile(final Blackhole blackhole) {
+        for (final GridPosition cell : this.cells) {
+            blackhole.consume(this.map.getTileFromGridPosition(cell));
+        }
+    }
+
+    /**
+     * Measures {@link Map#getTileType(int, int)}, which takes the row and the column instead of a {@link GridPosition}.
+     * @param blackhole the {@link Blackhole} that consumes the types
+     */
+    @Benchmark
+    public void getTileType(final Blackhole blackhole) {
+        for (final GridPosition cell : this.cells) {
+            blackhole.consume(this.map.getTileType(cell.getRow(), cell.getColumn()));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package sgf.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sgf.model.map.Position;
+
+/**
+ * Measures the geometry of {@link Position}, used by every turret at every tick, over as many pairs of positions as given.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PositionBenchmark {
+    private static final long SEED = 42;
+    private static final double SIDE = 1000;    // Side of the square the positions are picked in.
+    @Param({"10", "100", "1000", "10000"})
+    private int positions;
+    private Position[] from;
+    private Position[] to;
+
+    /**
+     * Picks the pairs of positions.
+     */
+    @Setup
+    public void setUp() {
+        final Random random = new Random(SEED);
+        this.from = new Position[this.positions];
+        this.to = new Position[this.positions];
+        for (int i = 0; i < this.positions; i++) {
+            this.from[i] = new Position(random.nextDouble() * SIDE, random.nextDouble() * SIDE);
+            this.to[i] = new Position(random.nextDouble() * SIDE, random.nextDouble() * SIDE);
+        }
+    }
+
+    /**
+     * Measures {@link Position#distanceTo(Position)}.
+     * @return the sum of the distances
+     */
+    @Benchmark
+    public double distanceTo() {
+        double sum = 0;
+        for (int i = 0; i < this.positions; i++) {
+            sum += this.from[i].distanceTo(this.to[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Measures {@link Position#squaredDistanceTo(Position)}, used instead of the distance when only comparing.
+     * @return the sum of the squared distances
+     */
+    @Benchmark
+    public double squaredDistanceTo() {
+        double sum = 0;
+        for (int i = 0; i < this.positions; i++) {
+            sum += this.from[i].squaredDistanceTo(this.to[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Measures {@link Position#getAngle(Position)}.
+     * @return the sum of the angles
+     */
+    @Benchmark
+    public double getAngle() {
+        double sum = 0;
+        for (int i = 0; i < this.positions; i++) {
+            sum += this.from[i].getAngle(this.to[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,65 @@
+package sgf.bench;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sgf.helpers.ImgTileSize;
+import sgf.helpers.TurretsLoaderImpl;
+import sgf.managers.TurretManager;
+import sgf.managers.TurretManagerImpl;
+import sgf.model.enemies.Enemy;
+import sgf.model.map.GridPosition;
+import sgf.model.map.PathCoverage;
+import sgf.model.turret.TargetStrategy;
+import sgf.model.turret.Turret;
+import sgf.utilities.PositionConverter;
+
+/**
+ * Measures how long a turret takes to acquire a target with each {@link TargetStrategy}, as the number of enemies on the map grows.
+ * The target is dropped before every search, so each invocation runs a full search.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TargetingBenchmark {
+    private static final int ROW = 5;       // Grass tile next to several stretches of the path of the first level.
+    private static final int COLUMN = 6;
+    @Param({"10", "100", "1000", "10000"})
+    private int enemies;
+    @Param({"FIRST", "LAST", "STRONGEST", "WEAKEST", "CLOSEST"})
+    private TargetStrategy strategy;
+    private Turret turret;
+    private TurretManager manager;
+
+    /**
+     * Places a turret on the map of the first level, among the enemies.
+     */
+    @Setup
+    public void setUp() {
+        final BenchmarkWorld world = new BenchmarkWorld(this.enemies);
+        this.turret = new TurretsLoaderImpl().getTurrets().values().iterator().next().getClone();
+        this.turret.setPosition(new PositionConverter(ImgTileSize.getTileSize()).convertToPosition(new GridPosition(ROW, COLUMN)));
+        this.turret.setTargetStrategy(this.strategy);
+        final PathCoverage coverage = new PathCoverage(world.getPath(), this.turret.getPosition(), this.turret.getRange());
+        // The turret controller is only needed to fire, which is not measured.
+        this.manager = new TurretManagerImpl(this.turret, null, world, coverage, BenchmarkWorld.TICK_LENGTH);
+    }
+
+    /**
+     * Searches a target.
+     * @return the target found
+     */
+    @Benchmark
+    public Optional<Enemy> findTarget() {
+        this.turret.setTarget(null);
+        this.manager.updateTarget();
+        return this.turret.getTarget();
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Iterator;
 import sgf.controller.Controller;
 import sgf.managers.BulletManager;
 import sgf.model.bullet.Bullet;
+import sgf.model.bullet.BulletPool;
 import sgf.view.bullet.BulletView;
 
 /**
@@ -29,4 +30,10 @@ public interface BulletController extends Controller<BulletView>  {
      */
     Iterator<Bullet> getBulletsIterator();
 
+    /**
+     * Returns the {@link BulletPool} the bullets are created from, which is shared by all the turrets.
+     * @return the bullet pool
+     */
+    BulletPool getBulletPool();
+
 }
@@ -1,13 +1,25 @@
 package sgf.controller.bullet;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.Semaphore;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import sgf.managers.BulletManager;
 import sgf.managers.BulletManagerImpl;
+import sgf.managers.DamageQueue;
+import sgf.managers.EnemyManagerImpl;
+import sgf.managers.GameLoop;
+import sgf.managers.TickPhase;
 import sgf.model.bullet.Bullet;
-import sgf.utilities.LockClass;
+import sgf.model.bullet.BulletPool;
+import sgf.model.bullet.BulletPoolImpl;
+import sgf.model.map.Path;
 import sgf.view.bullet.BulletView;
 
 /**
@@ -18,15 +30,58 @@ public class BulletControllerImpl implements BulletController {
     private boolean isViewSet;
     @SuppressWarnings("unused")
     private BulletView bulletView;
-    private final List<BulletManager> bullets;
-    private final Semaphore semaphore;
+    private final Set<BulletManager> bullets;
+    private final BulletPool bulletPool = new BulletPoolImpl();
+    private final Deque<BulletManagerImpl> idleManagers = new ArrayDeque<>();  // Managers of eliminated bullets, ready to be reused.
+    // Bullets in flight, by tick of impact: only the ones that land are looked at in a tick.
+    private final Queue<BulletManagerImpl> impacts = new PriorityQueue<>(Comparator.comparingLong(m -> m.getBullet().getImpactTick()));
+    private final List<BulletManagerImpl> stray = new ArrayList<>();   // Reused to collect the bullets whose target has been killed.
+    private final GameLoop gameLoop;
+    private final Path path;
+    private final DamageQueue damageQueue;
+    private final int tickLength;
+    private int killsSeen;      // Kills recorded by the damage queue when the stray bullets were last looked for.
 
     /**
      * Creates a new instance of the class.
+     * @param gameLoop the {@link GameLoop} that drives the impacts of the bullets
+     * @param path the {@link Path} walked by the enemies the bullets are fired at
+     * @param damageQueue the {@link DamageQueue} the hits of the bullets are recorded in
      */
-    public BulletControllerImpl() {
-        this.bullets = new ArrayList<>();
-        this.semaphore = LockClass.getBulletSemaphore();
+    public BulletControllerImpl(final GameLoop gameLoop, final Path path, final DamageQueue damageQueue) {
+        this.bullets = ConcurrentHashMap.newKeySet();    // Painted by the view while the game loop adds and removes bullets.
+        this.gameLoop = gameLoop;
+        this.path = path;
+        this.damageQueue = damageQueue;
+        this.tickLength = gameLoop.getTickLength();
+        gameLoop.addHandler(TickPhase.BULLETS, this::resolveImpacts);
+        // Registered after the handler of the enemy controller that applies the damage, so stray bullets go in the same tick.
+        gameLoop.addHandler(TickPhase.DAMAGE, this::dropStrayBullets);
+    }
+
+    private void resolveImpacts() {
+        final long tick = this.gameLoop.getTickCount();
+        while (!this.impacts.isEmpty() && this.impacts.peek().getBullet().getImpactTick() <= tick) {
+            this.impacts.poll().update();
+        }
+    }
+
+    // Eliminates the bullets whose target has been killed by other bullets, instead of letting them fly to where it would have been.
+    private void dropStrayBullets() {
+        final int kills = this.damageQueue.getKills();
+        if (kills == this.killsSeen) {
+            return;     // Nobody died, no bullet has lost its target.
+        }
+        this.killsSeen = kills;
+        for (final BulletManagerImpl bulletManager : this.impacts) {
+            if (bulletManager.getBullet().getTarget().getHP() <= 0) {
+                this.stray.add(bulletManager);
+            }
+        }
+        for (int i = 0; i < this.stray.size(); i++) {
+            this.stray.get(i).eliminate();
+        }
+        this.stray.clear();
     }
 
     @Override
@@ -39,9 +94,8 @@ public class BulletControllerImpl implements BulletController {
 
     @Override
     public void stop() {
-        this.semaphore.acquireUninterruptibly();        // Semaphore needed to make sure no elements are added/removed while the foreach is running.
-        this.bullets.forEach(BulletManager::eliminate);
-        this.semaphore.release();
+        this.bullets.clear();
+        this.impacts.clear();
     }
 
     @Override
@@ -49,16 +103,35 @@ public class BulletControllerImpl implements BulletController {
         if (bullet == null) {
             throw new IllegalArgumentException("Bullet cannot be null");
         }
-        this.semaphore.acquireUninterruptibly();
-        this.bullets.add(new BulletManagerImpl(bullet, this));
-        this.semaphore.release();
+        final BulletManagerImpl bulletManager;
+        if (this.idleManagers.isEmpty()) {
+            bulletManager = new BulletManagerImpl(bullet, this, this.tickLength, this.damageQueue);
+        } else {
+            bulletManager = this.idleManagers.pop();
+            bulletManager.setBullet(bullet);
+        }
+        bulletManager.launch(this.path, this.gameLoop.getTickCount(), EnemyManagerImpl.getStepLength(bullet.getTarget(), this.tickLength));
+        this.bullets.add(bulletManager);
+        this.impacts.add(bulletManager);
     }
 
     @Override
     public void removeBullet(final BulletManager bulletManager) {
-        this.semaphore.acquireUninterruptibly();
-        this.bullets.remove(bulletManager);
-        this.semaphore.release();
+        // Both the bullet and its manager are recycled: they are only used by the game loop, which is the caller.
+        if (this.bullets.remove(bulletManager)) {
+            if (bulletManager.getBullet().getImpactTick() > this.gameLoop.getTickCount()) {
+                this.impacts.remove(bulletManager);     // Eliminated before its impact, otherwise it has already been polled.
+            }
+            this.bulletPool.release(bulletManager.getBullet());
+            if (bulletManager instanceof BulletManagerImpl) {
+                this.idleManagers.push((BulletManagerImpl) bulletManager);
+            }
+        }
+    }
+
+    @Override
+    public BulletPool getBulletPool() {
+        return this.bulletPool;
     }
 
     @Override
@@ -1,8 +1,11 @@
 package sgf.controller.enemy;
 
-import java.util.List;
+import java.util.Collection;
 import sgf.controller.Controller;
+import sgf.managers.DamageQueue;
 import sgf.managers.EnemyManager;
+import sgf.managers.EnemyProgressIndex;
+import sgf.utilities.SpatialGrid;
 import sgf.view.enemy.EnemyView;
 
 /**
@@ -17,8 +20,33 @@ public interface EnemyController extends Controller<EnemyView> {
     void removeEnemy(EnemyManager enemyManager);
 
     /**
-     * Returns the {@link Enemy} menagerList.
-     * @return the managerList.
+     * Returns the managers of the {@link Enemy} in the game. The collection is concurrent: it can be iterated by any thread
+     * without locking, while enemies are added and removed.
+     * @return the managers.
      */
-    List<EnemyManager> getManagerList();
+    Collection<EnemyManager> getManagers();
+
+    /**
+     * Returns the {@link SpatialGrid} that buckets the enemies by the tile they are in.
+     * @return the grid of the enemies.
+     */
+    SpatialGrid<EnemyManager> getEnemyGrid();
+
+    /**
+     * Returns the {@link EnemyProgressIndex} that keeps the enemies in order of progress along the path.
+     * @return the index of the enemies.
+     */
+    EnemyProgressIndex getProgressIndex();
+
+    /**
+     * Tells whether the level is over, because all the waves have been defeated or the player has no HP left.
+     * @return {@code true} if the level is over, {@code false} otherwise.
+     */
+    boolean isLevelOver();
+
+    /**
+     * Returns the {@link DamageQueue} the hits to the enemies are recorded in, to be inflicted once per tick.
+     * @return the damage queue
+     */
+    DamageQueue getDamageQueue();
 }
@@ -1,87 +1,115 @@
 package sgf.controller.enemy;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import sgf.controller.game.PlayerController;
+import sgf.helpers.ImgTileSize;
+import sgf.managers.DamageQueue;
+import sgf.managers.DamageQueueImpl;
 import sgf.managers.EnemyManager;
 import sgf.managers.EnemyManagerImpl;
+import sgf.managers.EnemyProgressIndex;
+import sgf.managers.EnemyProgressIndexImpl;
+import sgf.managers.GameLoop;
 import sgf.managers.LeaderboardManager;
 import sgf.managers.LevelManager;
+import sgf.managers.TickPhase;
 import sgf.model.enemies.Enemy;
 import sgf.model.game.Player;
 import sgf.model.game.Stoppable;
-import sgf.utilities.LockClass;
+import sgf.utilities.SpatialGrid;
+import sgf.utilities.SpatialGridImpl;
 import sgf.utilities.ThreadAndViewObservable;
 import sgf.view.enemy.EnemyView;
 
 /**
- * Class Waves thread that spawns enemies of the waves.
+ * Class that spawns the enemies of the waves and moves them, driven by the {@link GameLoop}.
  */
 public class EnemyControllerImpl implements EnemyController, Stoppable {
-    private static final int THREAD_SPEED = 3000; 
+    private static final int SPAWN_DELAY = 3000; // Milliseconds between two spawns.
     private boolean isControllerSet;
-    private volatile boolean threadRun = true; // Boolean that manages the thread loop.
+    private volatile boolean active = true; // Boolean that tells whether enemies are still spawned.
     private EnemyView enemyView;
     private final LevelManager levelManager;
-    private final List<EnemyManager> managerList; // List of enemyyManager of enemy that is moving in the game.
+    private final Collection<EnemyManager> managers; // Managers of the enemies that are moving in the game.
+    private final Map<Enemy, EnemyManager> managersByEnemy = new IdentityHashMap<>(); // Same managers, only used by the game loop.
+    private final DamageQueue damageQueue = new DamageQueueImpl();
+    private final SpatialGrid<EnemyManager> enemyGrid; // Same enemies, bucketed by tile.
+    private final EnemyProgressIndex progressIndex = new EnemyProgressIndexImpl(); // Same enemies, in order of progress.
     private final PlayerController playerManager;  //Manager of Player, needed by EnemyManager.
     private final LeaderboardManager leaderboard;
-    private Thread waveThread;
+    private final int spawnDelay;   // Ticks between two spawns.
+    private final int tickLength;
+    private int ticksToNextSpawn;
 
     /**
      * Sets the levelManager to load enemies and get map.
      * @param levelManager Is the manager of the current level.
      * @param playerManager Is the manager of the player.
      * @param leaderboard Is the leaderboard manager.
+     * @param gameLoop Is the {@link GameLoop} that drives the spawning and the movement of the enemies.
      */
-    public EnemyControllerImpl(final LevelManager levelManager, final PlayerController playerManager, final LeaderboardManager leaderboard) {
+    public EnemyControllerImpl(final LevelManager levelManager, final PlayerController playerManager, final LeaderboardManager leaderboard,
+            final GameLoop gameLoop) {
         this.leaderboard = leaderboard;
         this.levelManager = levelManager;
         this.playerManager = playerManager;
-        this.managerList = new ArrayList<>();
-        ThreadAndViewObservable.register(this);
-        this.startRunWaves(); // Thread method.
+        this.managers = ConcurrentHashMap.newKeySet();   // Painted by the view while the game loop adds and removes enemies.
+        this.enemyGrid = new SpatialGridImpl<>(ImgTileSize.getTileSize(), levelManager.getMap().getSize());
+        this.tickLength = gameLoop.getTickLength();
+        this.spawnDelay = SPAWN_DELAY / this.tickLength;
+        gameLoop.addHandler(TickPhase.SPAWN, this::runWaves);
+        gameLoop.addHandler(TickPhase.MOVEMENT, this::moveEnemies);
+        gameLoop.addHandler(TickPhase.DAMAGE, () -> this.damageQueue.apply(this::enemyKilled));
     }
 
-    private void startRunWaves() {
-        if (waveThread == null) {
-            waveThread = new Thread(new Runnable() {
-
-                @Override
-                public void run() {
-                    while (threadRun) {
-                        if (levelManager.hasNextEnemy()) {
-                            loadNextEnemy();
-                        } else {
-                            loadNextWave();
-                            checkIfStopThread(); // Checks if the level is over.
-                        }
-                        try {
-                            Thread.sleep(THREAD_SPEED);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                }
-            });
+    private void runWaves() {
+        if (this.active && --this.ticksToNextSpawn <= 0) {
+            this.ticksToNextSpawn = this.spawnDelay;
+            if (this.levelManager.hasNextEnemy()) {
+                this.loadNextEnemy();
+            } else {
+                this.loadNextWave();
+                this.checkIfStopThread(); // Checks if the level is over.
+            }
+        }
+    }
+
+    private void moveEnemies() {
+        // The iteration is weakly consistent, so an enemy can remove itself when it dies or reaches the end.
+        for (final EnemyManager enemyManager : this.managers) {
+            enemyManager.update();
+        }
+        this.progressIndex.update();    // Enemies have moved, some may have overtaken others.
+    }
+
+    private void enemyKilled(final Enemy enemy) {
+        final EnemyManager enemyManager = this.managersByEnemy.get(enemy);
+        if (enemyManager != null) {     // The enemy may have left the map in the same tick.
+            enemyManager.kill();
         }
-        waveThread.start();
     }
 
     // Checks if the level is over.
     private void checkIfStopThread() {
         final Player player = this.playerManager.getPlayer();
-        if (!this.levelManager.hasNextWave() && this.managerList.isEmpty() || player.getCurrentHP() == 0) {
-            this.threadRun = false;
+        if (player.getCurrentHP() == 0) {
+            this.active = false;    // The player has lost, the score has already been saved.
+        } else if (!this.levelManager.hasNextWave() && this.managers.isEmpty()) {
+            this.active = false;
             this.leaderboard.addScore(player.getPlayerName(), player.getScore());
             this.leaderboard.writeScore();
-            this.enemyView.winGame();
+            if (this.enemyView != null) { // There is no view when the game runs headless.
+                this.enemyView.winGame();
+            }
         }
     }
 
     private void loadNextWave() {
         // Checks if the previous wave is over and in case loads the next wave.
-        if (this.managerList.isEmpty() && this.levelManager.hasNextWave()) {
+        if (this.managers.isEmpty() && this.levelManager.hasNextWave()) {
             this.levelManager.nextWave();
             this.loadNextEnemy();
         }
@@ -89,7 +117,11 @@ public class EnemyControllerImpl implements EnemyController, Stoppable {
 
     private void loadNextEnemy() {
         final Enemy enemy = this.levelManager.getNextEnemy().orElseThrow();
-        this.managerList.add(new EnemyManagerImpl(enemy, this.levelManager, this, this.playerManager)); // Creates a managerList of the enemy that has been cretaed.
+        final EnemyManager enemyManager = new EnemyManagerImpl(enemy, this.levelManager, this, this.playerManager, this.tickLength); // Creates a managerList of the enemy that has been cretaed.
+        this.managers.add(enemyManager);
+        this.managersByEnemy.put(enemy, enemyManager);
+        this.enemyGrid.add(enemyManager, enemyManager.getCell());
+        this.progressIndex.add(enemy);
     }
 
     @Override
@@ -97,23 +129,45 @@ public class EnemyControllerImpl implements EnemyController, Stoppable {
         if (!isControllerSet) {
             this.isControllerSet = true;
             this.enemyView = view;
+            ThreadAndViewObservable.register(this);     // Only a shown game is stopped on exit, headless ones are not kept.
         }
     }
 
     @Override
     public void removeEnemy(final EnemyManager enemyManager) {
-        LockClass.getEnemySemaphore().acquireUninterruptibly();
-        this.managerList.remove(enemyManager);
-        LockClass.getEnemySemaphore().release();
+        this.managers.remove(enemyManager);
+        this.managersByEnemy.remove(enemyManager.getEnemy());
+        this.enemyGrid.remove(enemyManager, enemyManager.getCell());
+        this.progressIndex.remove(enemyManager.getEnemy());
     }
 
     @Override
     public void stop() {
-        this.threadRun = false;
+        this.active = false;
+    }
+
+    @Override
+    public Collection<EnemyManager> getManagers() {
+        return this.managers;
+    }
+
+    @Override
+    public SpatialGrid<EnemyManager> getEnemyGrid() {
+        return this.enemyGrid;
+    }
+
+    @Override
+    public EnemyProgressIndex getProgressIndex() {
+        return this.progressIndex;
+    }
+
+    @Override
+    public DamageQueue getDamageQueue() {
+        return this.damageQueue;
     }
 
     @Override
-    public List<EnemyManager> getManagerList() {
-        return this.managerList;
+    public boolean isLevelOver() {
+        return !this.active || this.playerManager.getPlayer().getCurrentHP() == 0;
     }
 }
@@ -1,6 +1,7 @@
 package sgf.controller.game;
 
 import sgf.controller.Controller;
+import sgf.utilities.FramePacer;
 import sgf.view.game.GameView;
 
 /**
@@ -24,4 +25,10 @@ public interface GameController extends Controller<GameView> {
      */
     void setView(GameView gv);
 
+    /**
+     * Returns the {@link FramePacer} of the game thread, which measures the time of the frames.
+     * @return the frame pacer
+     */
+    FramePacer getFramePacer();
+
 }
@@ -1,5 +1,7 @@
 package sgf.controller.game;
 
+import sgf.utilities.FramePacer;
+import sgf.utilities.ThreadMode;
 import sgf.view.game.AbstractGameView;
 import sgf.view.game.GameView;
 
@@ -9,17 +11,18 @@ import sgf.view.game.GameView;
  */
 public class GameControllerImpl implements GameController {
     private AbstractGameView gameView;
+    private final FramePacer pacer = FramePacer.fromProperty();     // Paces the frames at the target chosen by the player.
     private volatile boolean threadRun = true; // Boolean that manages the thread loop.
     private boolean isControllerSet;
 
     private void startGameThread() {
-        final Thread gameThread = new Thread(new Runnable() {
+        final Thread gameThread = ThreadMode.current().newThread("game-view", new Runnable() {
             @Override
             public void run() {
                 while (threadRun) {
                     try {
                         gameView.update();
-                        Thread.sleep(100);
+                        pacer.awaitNextFrame();     // Waits for the rest of the frame, net of the time spent drawing it.
                     } catch (InterruptedException e) {
                         e.printStackTrace();
                     }
@@ -52,6 +55,11 @@ public class GameControllerImpl implements GameController {
         }
     }
 
+    @Override
+    public FramePacer getFramePacer() {
+        return this.pacer;
+    }
+
     @Override
     public void stop() {
         this.threadRun = false;
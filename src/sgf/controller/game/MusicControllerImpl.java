@@ -8,6 +8,7 @@ import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
 import javax.sound.sampled.LineUnavailableException;
 import javax.sound.sampled.UnsupportedAudioFileException;
+import sgf.utilities.ThreadMode;
 
 /**
  * Controller for the music that manages the tracks random choice.
@@ -59,7 +60,7 @@ public class MusicControllerImpl implements MusicController {
 
     // Thread that plays and changes track.
     private void thread() {
-        final Thread t = new Thread(new Runnable() {
+        final Thread t = ThreadMode.current().newThread("music", new Runnable() {
             @Override
             public void run() {
                 while (musicOn) {
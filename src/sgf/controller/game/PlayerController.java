@@ -22,10 +22,11 @@ public interface PlayerController extends Controller<PlayerView> {
     void changeHP(int offset);
 
     /**
-     * Changes the player's money amount by an offset value.
+     * Changes the player's money amount by an offset value, unless the amount would go below zero.
      * @param offset the change in money amount
+     * @return {@code true} if the money has been changed, {@code false} if there was not enough of it
      */
-    void changeMoney(int offset);
+    boolean changeMoney(int offset);
 
     /**
      * Changes the player's score by an offset value.
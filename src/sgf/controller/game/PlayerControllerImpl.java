@@ -33,33 +33,34 @@ public class PlayerControllerImpl implements PlayerController {
 
     @Override
     public void changeHP(final int offset) {
-        final int newAmount = this.player.getCurrentHP() + offset;
-        if (newAmount > 0) {
-            this.player.setCurrentHP(newAmount);
-        } else {
+        if (this.player.changeCurrentHP(offset)) {   // The game is lost only once, even if more enemies reach the end.
             this.leaderboard.addScore(this.player.getPlayerName(), this.player.getScore());
             this.leaderboard.writeScore();
-            this.playerView.loseGame();
+            if (this.playerView != null) {
+                this.playerView.loseGame();
+            }
         }
-        this.playerView.update();
+        this.updateView();
     }
 
     @Override
-    public void changeMoney(final int offset) {
-        final int newAmount = this.player.getMoney() + offset;
-        if (newAmount >= 0) {
-            this.player.setMoney(newAmount);
-        }
-        this.playerView.update();
+    public boolean changeMoney(final int offset) {
+        final boolean changed = this.player.changeMoney(offset);
+        this.updateView();
+        return changed;
     }
 
     @Override
     public void changeScore(final int offset) {
-        final int newScore = this.player.getScore() + offset;
-        if (newScore >= 0) {
-            this.player.setScore(newScore);
+        this.player.changeScore(offset);
+        this.updateView();
+    }
+
+    // Updates the view, if any: there is none when the game runs headless. The view coalesces the updates.
+    private void updateView() {
+        if (this.playerView != null) {
+            this.playerView.update();
         }
-        this.playerView.update();
     }
 
     @Override
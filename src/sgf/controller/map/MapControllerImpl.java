@@ -7,7 +7,6 @@ import java.awt.image.BufferedImage;
 import sgf.helpers.ImgTileSize;
 import sgf.managers.ImageLoaderManager;
 import sgf.managers.TileImageManager;
-import sgf.model.map.GridPosition;
 import sgf.model.map.Map;
 import sgf.model.map.TileType;
 import sgf.view.map.MapView;
@@ -60,7 +59,7 @@ public class MapControllerImpl implements MapController {
         final Graphics g = this.mapImage.getGraphics();
         for (int row = 0; row < this.map.getSize(); row++) {
             for (int column = 0; column < this.map.getSize(); column++) {
-                final Image i = tileManager.getImage(this.map.getTileFromGridPosition(new GridPosition(row, column)).getTileType());
+                final Image i = tileManager.getImage(this.map.getTileType(row, column));
                 g.drawImage(i, column * this.tileSize, row *  this.tileSize,  this.tileSize,  this.tileSize, null);
             }
         }
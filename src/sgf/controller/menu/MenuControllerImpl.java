@@ -22,6 +22,10 @@ import sgf.helpers.MapLoaderImpl;
 import sgf.helpers.TurretsLoader;
 import sgf.helpers.TurretsLoaderImpl;
 import sgf.helpers.WavesLoaderImpl;
+import sgf.managers.FramePublisher;
+import sgf.managers.FramePublisherImpl;
+import sgf.managers.GameLoop;
+import sgf.managers.GameLoopImpl;
 import sgf.managers.GameManager;
 import sgf.managers.GameManagerImpl;
 import sgf.managers.LeaderboardManager;
@@ -35,7 +39,6 @@ import sgf.model.level.Wave;
 import sgf.model.map.Map;
 import sgf.model.shop.Shop;
 import sgf.model.shop.ShopImpl;
-import sgf.utilities.LockClass;
 import sgf.view.bullet.AbstractBulletView;
 import sgf.view.bullet.BulletViewImpl;
 import sgf.view.enemy.AbstractEnemyView;
@@ -99,21 +102,23 @@ public class MenuControllerImpl implements MenuController {
         final Level level = new LevelImpl(waves, map, levelNum);
         final LevelManager levelManager = new LevelManagerImpl(level);
         final GameManager gameManager = new GameManagerImpl(playerController, levelManager);
+        final GameLoop gameLoop = GameLoopImpl.fromProperty();
         final MapController mapController = new MapControllerImpl(map);
         final TurretsLoader tLoader = new TurretsLoaderImpl();
         final Shop shop = new ShopImpl(tLoader);
         final AbstractPlayerView playerView = new PlayerViewImpl();
         final AbstractMapView mapView = new MapViewImpl(map);
-        final EnemyController enemyController = new EnemyControllerImpl(levelManager, playerController, this.leaderboardManager);
-        final AbstractEnemyView enemyView = new EnemyViewImpl(map.getSize());
+        final EnemyController enemyController = new EnemyControllerImpl(levelManager, playerController, this.leaderboardManager, gameLoop);
         final ShopController shopController = new ShopControllerImpl(gameManager, shop);
         final AbstractShopView shopView = new ShopViewImpl();
-        final BulletController bulletController = new BulletControllerImpl();
-        final AbstractBulletView bulletView = new BulletViewImpl(map.getSize());
-        final TurretController turretController = new TurretControllerImpl(shopController, LockClass.getTurretSemaphore(), enemyController, bulletController);
-        final AbstractTurretView turretView = new TurretViewImpl(map, LockClass.getTurretSemaphore());
+        final BulletController bulletController = new BulletControllerImpl(gameLoop, map.getPath(), enemyController.getDamageQueue());
+        final TurretController turretController = new TurretControllerImpl(map, shopController, enemyController, bulletController, gameLoop);
+        final FramePublisher framePublisher = new FramePublisherImpl(enemyController, bulletController, turretController, gameLoop);
+        final AbstractEnemyView enemyView = new EnemyViewImpl();
+        final AbstractBulletView bulletView = new BulletViewImpl();
+        final AbstractTurretView turretView = new TurretViewImpl(map);
         final GameController gameController = new GameControllerImpl();
-        final AbstractGameView gameView = new GameViewImpl(mapView, enemyView, turretView, bulletView);
+        final AbstractGameView gameView = new GameViewImpl(mapView, enemyView, turretView, bulletView, framePublisher, gameLoop);
         final PlayingController playingController = new PlayingControllerImpl(gameManager);
         final AbstractPlayingView playingView = new PlayingViewImpl(gameView, shopView, playerView);
 
@@ -145,6 +150,7 @@ public class MenuControllerImpl implements MenuController {
         turretView.start();
         gameView.start();
         playingView.start();
+        gameLoop.start();
 
         return playingView;
     }
@@ -73,13 +73,15 @@ public class ShopControllerImpl implements ShopController {
         if (this.selectedTurret == null) {
             return Optional.empty();
         }
-        if (this.canBuy(this.selectedTurret)) {
-            this.gameManager.getPlayerController().changeMoney(-this.selectedTurret.getPrice());
+        // The money is taken atomically, so a reward paid meanwhile by the game loop is not lost.
+        if (this.canBuy(this.selectedTurret) && this.gameManager.getPlayerController().changeMoney(-this.selectedTurret.getPrice())) {
             final Turret out = this.selectedTurret;
             this.deselectTurret();
-            this.shopView.turretDeselected();
-            this.shopView.enableAll();
-            this.shopView.repaint();
+            if (this.shopView != null) {    // There is no view when the game runs headless.
+                this.shopView.turretDeselected();
+                this.shopView.enableAll();
+                this.shopView.repaint();
+            }
             return Optional.of(out);
         }
         return Optional.empty(); // If the player doesn't have enough money, the purchase fails.
@@ -1,18 +1,22 @@
 package sgf.controller.turret;
 
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map.Entry;
-import java.util.concurrent.Semaphore;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import sgf.controller.bullet.BulletController;
 import sgf.controller.enemy.EnemyController;
 import sgf.controller.shop.ShopController;
 import sgf.helpers.ImgTileSize;
+import sgf.managers.GameLoop;
+import sgf.managers.TickPhase;
 import sgf.managers.TurretManager;
 import sgf.managers.TurretManagerImpl;
 import sgf.model.bullet.Bullet;
 import sgf.model.map.GridPosition;
+import sgf.model.map.Map;
+import sgf.model.map.PathCoverage;
 import sgf.model.turret.Turret;
 import sgf.utilities.PositionConverter;
 import sgf.view.turret.TurretView;
@@ -23,29 +27,40 @@ import sgf.view.turret.TurretView;
 public class TurretControllerImpl implements TurretController {
 
     private final int tileSize;
+    private final Map map;
     private final ShopController shopController;
     private final java.util.Map<GridPosition, TurretManager> turrets;
-    private final Semaphore semaphore;
     private final EnemyController enemyController;
     private final BulletController bulletController;
+    private final int tickLength;
     @SuppressWarnings("unused")
     private TurretView turretView;
     private boolean isViewSet;
 
     /**
      * Creates a new instance of the class.
+     * @param map the {@link Map} the turrets are placed on
      * @param shopController the {@link ShopController}
-     * @param semaphore the {@link Semaphore}
      * @param enemyController the {@link EnemyController}
      * @param bulletController the {@link BulletController}
+     * @param gameLoop the {@link GameLoop} that drives targeting and firing of the turrets
      */
-    public TurretControllerImpl(final ShopController shopController, final Semaphore semaphore, final EnemyController enemyController, final BulletController bulletController) {
+    public TurretControllerImpl(final Map map, final ShopController shopController, final EnemyController enemyController, final BulletController bulletController,
+            final GameLoop gameLoop) {
+        this.map = map;
         this.shopController = shopController;
-        this.semaphore = semaphore;
-        this.turrets = new HashMap<>();
+        this.turrets = new ConcurrentHashMap<>();   // Turrets are placed by the view while the game loop runs them.
         this.tileSize = ImgTileSize.getTileSize();
         this.enemyController = enemyController;
         this.bulletController = bulletController;
+        this.tickLength = gameLoop.getTickLength();
+        gameLoop.addHandler(TickPhase.TARGETING, () -> this.forEachTurret(TurretManager::updateTarget));
+        gameLoop.addHandler(TickPhase.FIRING, () -> this.forEachTurret(TurretManager::fire));
+    }
+
+    // Runs an action on every turret, a turret placed in the meantime may be skipped until the next tick.
+    private void forEachTurret(final Consumer<TurretManager> action) {
+        this.turrets.values().forEach(action);
     }
 
     @Override
@@ -61,11 +76,13 @@ public class TurretControllerImpl implements TurretController {
         if (shopController.getSelectedTurret().isPresent() && isTileEmpty(gpos)) {
             final Optional<Turret> t = shopController.buy();
             if (t.isPresent()) {
-                semaphore.acquireUninterruptibly();
-                final TurretManager newTurretManager = new TurretManagerImpl(t.get().getClone(), this, this.enemyController);
-                newTurretManager.getTurret().setPosition(new PositionConverter(this.tileSize).convertToPosition(gpos));
+                final Turret turret = t.get().getClone();
+                turret.setPosition(new PositionConverter(this.tileSize).convertToPosition(gpos));
+                turret.setBulletFactory(this.bulletController.getBulletPool());    // Bullets of all the turrets are recycled together.
+                // The path never changes, so the stretches of it within range are computed once.
+                final PathCoverage coverage = new PathCoverage(this.map.getPath(), turret.getPosition(), turret.getRange());
+                final TurretManager newTurretManager = new TurretManagerImpl(turret, this, this.enemyController, coverage, this.tickLength);
                 turrets.put(new GridPosition(gpos), newTurretManager);
-                semaphore.release();
             }
         }
     }
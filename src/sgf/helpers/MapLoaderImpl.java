@@ -5,7 +5,7 @@ import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -13,9 +13,10 @@ import java.util.Set;
 
 import sgf.model.map.Direction;
 import sgf.model.map.GridPosition;
+import sgf.model.map.DenseMapImpl;
 import sgf.model.map.Map;
-import sgf.model.map.MapImpl;
-import sgf.model.map.TileImpl;
+import sgf.model.map.PathImpl;
+import sgf.model.map.Position;
 import sgf.model.map.TileType;
 
 /**
@@ -25,7 +26,7 @@ import sgf.model.map.TileType;
 public class MapLoaderImpl implements MapLoader {
     private final Map map;
     private final java.util.Map<Integer, TileType> numbersToTypes;
-    private int mapRows;        // When reading over, it will contain the map size.
+    private int mapRows;        // Index of the row being read.
 
     // Boolean variables to check the given map integrity (has start tile and end tile).
     private boolean isSetStart;
@@ -36,12 +37,13 @@ public class MapLoaderImpl implements MapLoader {
      * @param levelId Denotes, according to the {@link Level}, which map file has to be loaded.
      */
     public MapLoaderImpl(final int levelId) {
-        this.map = new MapImpl();
+        this.map = new DenseMapImpl();
         numbersToTypes = new HashMap<>();
         this.mapRows = 0;
         this.createLinks();
         this.readMapStructureFromFile(levelId); // Method that reads map structure from file and create the correspondent map.
         this.findMovementPath();        // Method that fills the field Direction in every tile.
+        this.compilePath();     // Method that turns the path tiles into the polyline walked by the enemies.
     }
 
     @Override
@@ -67,27 +69,42 @@ public class MapLoaderImpl implements MapLoader {
             file = "res" + File.separator + "tests" + File.separator + "mapLevel" + levelId + ".txt";
         }
         final Path p = FileSystems.getDefault().getPath(file);
+        final List<int[]> rows = new ArrayList<>();
         try {
-            Files.lines(p).forEach(s -> read(s));
-            this.map.setMapSize(this.mapRows);
+            Files.lines(p).forEach(s -> rows.add(parse(s)));
         } catch (IOException e) {
             e.printStackTrace();
         }
+        // The map is square, and the grid must be sized before the tiles are placed: a wider row must also fit in it.
+        int size = rows.size();
+        for (final int[] row : rows) {
+            size = Math.max(size, row.length);
+        }
+        this.map.setMapSize(size);
+        rows.forEach(this::read);
         if (!this.isSetStart || !this.isSetEnd) {       // If the file .txt has no 3 or 4 (start or end tile).
             throw new IllegalStateException("Given matrix has no start or end tile!");
         }
-        final long numberOfPathTiles = this.map.getTiles().values().stream().filter(x -> x.getTileType().equals(TileType.PATH)).count();
+        final long numberOfPathTiles = this.map.getTiles().values().stream().filter(x -> x.getTileType() == TileType.PATH).count();
         if (numberOfPathTiles == 0) {
             throw new IllegalStateException("Given matrix has no path!");
         }
     }
 
-    // Method that works on every row read from file to obtain the effective values and convert them into tiles.
-    private void read(final String text) {
-        final List<String> lineRead = Arrays.asList(text.split("\\s+"));
+    // Method that works on every row read from file to obtain the effective values.
+    private int[] parse(final String text) {
+        final String[] lineRead = text.split("\\s+");
+        final int[] values = new int[lineRead.length];
+        for (int column = 0; column < lineRead.length; column++) {
+            values[column] = Integer.parseInt(lineRead[column]);
+        }
+        return values;
+    }
+
+    // Method that converts the values of a row into tiles.
+    private void read(final int[] values) {
         int column = 0;
-        for (final String element : lineRead) {
-            final int value = Integer.parseInt(element);
+        for (final int value : values) {
             if (value > 4) {
                 throw new IllegalArgumentException("Incorrect number read in map file!");   // Check number read consistency.
             }
@@ -98,7 +115,7 @@ public class MapLoaderImpl implements MapLoader {
                 this.map.setEndTile(mapRows, column);
                 this.isSetEnd = true;
             }
-            this.map.getTiles().put(new GridPosition(mapRows, column), new TileImpl(this.numbersToTypes.get(value)));
+            this.map.setTile(mapRows, column, this.numbersToTypes.get(value));
             column++;
         }
         this.mapRows++;
@@ -116,7 +133,8 @@ public class MapLoaderImpl implements MapLoader {
                 // For every neighbor tile that has not been already checked we check if its type is Path.
                 if (!tilesAlreadyChecked.contains(neighbor.getKey()) && this.isPath(neighbor.getKey())) {
                     // We found the next tile. So we have to set the direction of the current tile and update the list of already checked tiles.
-                    this.map.getTiles().get(currentTile).setDirection(neighbor.getValue());
+                    this.map.setTileDirection(currentTile.getRow(), currentTile.getColumn(), neighbor.getValue());
+                    this.map.getPathTiles().add(currentTile);
                     tilesAlreadyChecked.add(currentTile);
                     currentTile = neighbor.getKey();
                     lastDirection = neighbor.getValue();
@@ -124,7 +142,21 @@ public class MapLoaderImpl implements MapLoader {
                 }
             }
         }
-        this.map.getTiles().get(this.map.getEndTile()).setDirection(lastDirection);     // Also the very last tile direction is set.
+        this.map.setTileDirection(this.map.getEndTile().getRow(), this.map.getEndTile().getColumn(), lastDirection);     // Also the very last tile direction is set.
+        this.map.getPathTiles().add(this.map.getEndTile());
+    }
+
+    // Method that joins the corners of the path tiles, where the enemies are drawn from, plus the point one tile past the end tile where they leave the map.
+    private void compilePath() {
+        final int tileSize = ImgTileSize.getTileSize();
+        final List<Position> points = new ArrayList<>();
+        for (final GridPosition tile : this.map.getPathTiles()) {
+            points.add(new Position(tile.getColumn() * tileSize, tile.getRow() * tileSize));
+        }
+        final GridPosition end = this.map.getEndTile();
+        final Direction exit = this.map.getTileDirection(end.getRow(), end.getColumn()).orElseThrow();
+        points.add(new Position((end.getColumn() + exit.dx()) * tileSize, (end.getRow() + exit.dy()) * tileSize));
+        this.map.setPath(new PathImpl(points));
     }
 
     // Method that calculates the neighbors of a given grid position and fill a map with the corresponding direction.
@@ -144,13 +176,8 @@ public class MapLoaderImpl implements MapLoader {
         final int row = neighbour.getRow();
         final int column = neighbour.getColumn();
 
-        // If given grid position isn't into the map's size limits.
-        if (row < 0 || column < 0 || row >= this.map.getSize() || column >= this.map.getSize()) {
-            return false;
-        } else {
-            // Checks if its type is path.
-            final TileType type = this.map.getTiles().get(neighbour).getTileType();
-            return type != TileType.WATER && type != TileType.GRASS;
-        }
+        // Checks if its type is path. Outside the map's size limits there is no type at all.
+        final TileType type = this.map.getTileType(row, column);
+        return type != null && type != TileType.WATER && type != TileType.GRASS;
     }
 }
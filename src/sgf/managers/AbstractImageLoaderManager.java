@@ -1,33 +1,53 @@
 package sgf.managers;
 
+import java.awt.GraphicsConfiguration;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import sgf.model.game.PathLinker;
 import sgf.model.game.PathLinkerImpl;
 
 /**
  * Class that manages the {@link Image} loading from file.
+ * Managers only keep the paths of their images: the images are held by the shared {@link SpriteCache}, which bounds their memory.
  * @param <T> Is the entity type whose {@link Image} must be loaded in the correct view.
  */
 public abstract class AbstractImageLoaderManager<T> implements ImageLoaderManager<T> {
-    // A path linker contains all associations between enemy or tile type and its correspondent image.
-    private final PathLinker imagePaths = new PathLinkerImpl(); 
+    // A path linker contains all associations between enemy or tile type and its correspondent image, the same for every manager.
+    private static final PathLinker IMAGE_PATHS = new PathLinkerImpl();
+    private final Map<T, String> paths = new HashMap<>();      // Paths of the images of this manager, by element.
 
     @Override
     public Image loadRightImage(final String pngFile) {
-        try {
-            return ImageIO.read(new File("res" + File.separator + pngFile));
-        } catch (IOException e) {
-            e.printStackTrace();
-            return new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB); // In case of error returns an empty image.
-        }
+        return SpriteCache.shared().get(pngFile);    // Decoded once for all the managers, in case of error an empty image.
+    }
+
+    @Override
+    public void fillMap(final Map<T, String> map) {
+        this.paths.putAll(map);
+    }
+
+    @Override
+    public Image getImage(final T element) {
+        final String pngFile = this.paths.get(element);
+        return pngFile == null ? null : this.loadRightImage(pngFile);
+    }
+
+    @Override
+    public BufferedImage getImage(final T element, final int width, final int height, final GraphicsConfiguration config) {
+        final String pngFile = this.paths.get(element);
+        return pngFile == null ? null : SpriteCache.shared().get(pngFile, width, height, config);
+    }
+
+    @Override
+    public Set<T> getElements() {
+        return Set.copyOf(this.paths.keySet());
     }
 
     @Override
     public PathLinker getPathImage() {
-        return this.imagePaths;
+        return IMAGE_PATHS;
     }
 }
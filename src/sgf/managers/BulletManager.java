@@ -3,7 +3,7 @@ package sgf.managers;
 import sgf.model.bullet.Bullet;
 
 /**
- *
+ * Manages a single {@link Bullet} while it travels towards its target.
  */
 public interface BulletManager {
     /**
@@ -12,6 +12,12 @@ public interface BulletManager {
      */
     Bullet getBullet();
 
+    /**
+     * Resolves the {@link Bullet} at its tick of impact, recording the damage to its target if it is still alive,
+     * then eliminates it.
+     */
+    void update();
+
     /**
      * Eliminates the {@link Bullet} associated with this instance.
      */
@@ -2,32 +2,74 @@ package sgf.managers;
 
 import sgf.controller.bullet.BulletController;
 import sgf.model.bullet.Bullet;
+import sgf.model.enemies.Enemy;
 import sgf.model.game.Stoppable;
-import sgf.utilities.ThreadAndViewObservable;
+import sgf.model.map.Path;
+import sgf.model.map.Position;
+import sgf.utilities.Intercept;
 
 /**
- * Manages a bullet, moving it towards an enemy and inflicting damage when reaching it.
+ * Manages a bullet, aiming it at the point where it meets its enemy and recording the damage when it gets there.
+ * Enemies walk their path at a constant speed, so the tick of impact is known when the bullet is fired:
+ * nothing has to be done for the bullet in the ticks in between.
  */
 public class BulletManagerImpl implements BulletManager, Stoppable {
-    private final Bullet bullet;
-    private Thread thread;
+    private static final int REFERENCE_DELAY = 20;  // Update period, in milliseconds, bullet speeds are tuned for.
+    private Bullet bullet;
     private final BulletController bulletController;
-    private static final int UPDATE_DELAY = 20;
-    private static final int TOUCH_DISTANCE = 50;
+    private final DamageQueue damageQueue;
+    private final double deltaTime;
+    private final Position impactPosition = new Position(0, 0);    // Reused to aim the bullets.
+    private boolean hits;   // Whether the bullet meets its target before the target leaves the map.
     private boolean active;
-    private boolean threadRunning;
 
     /**
      * Creates an instance of the class with the given {@link Bullet}.
      * @param bullet a bullet
      * @param bulletController the controller for the bullet view
+     * @param tickLength the length of a tick of the {@link GameLoop} in milliseconds
+     * @param damageQueue the {@link DamageQueue} the damage of the bullet is recorded in
      */
-    public BulletManagerImpl(final Bullet bullet, final BulletController bulletController) {
-        ThreadAndViewObservable.register(this);
+    public BulletManagerImpl(final Bullet bullet, final BulletController bulletController, final int tickLength,
+            final DamageQueue damageQueue) {
         this.bullet = bullet;
         this.bulletController = bulletController;
+        this.damageQueue = damageQueue;
+        this.deltaTime = 1.0 / REFERENCE_DELAY * tickLength / REFERENCE_DELAY;  // Keeps the speed independent from the tick length.
         this.active = true;
-        startThread();
+    }
+
+    /**
+     * Assigns a new {@link Bullet} to the manager, so that it can be reused after its previous bullet has been eliminated.
+     * @param newBullet the new bullet
+     */
+    public void setBullet(final Bullet newBullet) {
+        this.bullet = newBullet;
+        this.active = true;
+    }
+
+    /**
+     * Aims the {@link Bullet} at the point where it meets its target, scheduling the impact.
+     * If the target leaves the path before the bullet can reach it, the bullet flies to the end of the path and misses.
+     * @param path the {@link Path} walked by the target
+     * @param tick the current tick, when the bullet is fired
+     * @param targetStep the distance travelled by the target in a tick
+     */
+    public void launch(final Path path, final long tick, final double targetStep) {
+        final double progress = this.bullet.getTarget().getPathProgress();
+        final double time = Intercept.timeToIntercept(path, progress, targetStep, this.bullet.getPosition(),
+                this.bullet.getSpeed() * this.deltaTime);
+        final long ticks;
+        if (Double.isNaN(time)) {
+            ticks = Math.max(1, (long) Math.ceil((path.getLength() - progress) / targetStep));
+            this.hits = false;
+        } else {
+            // The impact is rounded up to a whole tick; the flight is stretched to land where the target is then.
+            ticks = Math.max(1, (long) Math.ceil(time));
+            this.hits = progress + ticks * targetStep < path.getLength();
+        }
+        path.getPositionAt(progress + ticks * targetStep, this.impactPosition);
+        this.bullet.aim(this.impactPosition, tick, tick + ticks);
     }
 
     @Override
@@ -35,46 +77,26 @@ public class BulletManagerImpl implements BulletManager, Stoppable {
         return this.bullet;
     }
 
+    @Override
+    public void update() {
+        if (!this.active) {
+            return;
+        }
+        final Enemy target = this.bullet.getTarget();
+        if (this.hits && target != null && target.getHP() > 0) {    // The target may have been killed by another bullet meanwhile.
+            this.damageQueue.enqueue(target, this.bullet.getDamage());     // Inflicted in the damage phase of the tick.
+        }
+        this.eliminate();
+    }
+
     @Override
     public void eliminate() {
         this.bulletController.removeBullet(this);
         this.active = false;
     }
 
-    private void shift(final double x, final double y) {
-        this.bullet.move(this.bullet.getPosition().getX() + x, this.bullet.getPosition().getY() + y);
-    }
-
-    private void startThread() {
-        final double deltaTime = 1.0 / UPDATE_DELAY;
-        if (active && thread == null) {
-            thread = new Thread(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        while (active && threadRunning && bullet != null && bullet.getTarget() != null && bullet.getTarget().getHP() > 0) {
-                            if (bullet.getPosition().distanceTo(bullet.getTargetPosition()) < TOUCH_DISTANCE) {
-                                bullet.getTarget().damageSuffered(bullet.getDamage());
-                                break;
-                            }
-                            final double directionAngle = bullet.getPosition().getAngle(bullet.getTargetPosition());
-                            shift(Math.cos(directionAngle) * bullet.getSpeed() * deltaTime, Math.sin(directionAngle) * bullet.getSpeed() * deltaTime);
-                            Thread.sleep(UPDATE_DELAY);
-                        }
-                        eliminate();
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-                }
-            });
-        }
-        this.threadRunning = true;
-        this.thread.start();
-    }
-
     @Override
     public void stop() {
-        this.threadRunning = false;
-        //this.thread.interrupt();
+        this.active = false;
     }
 }
@@ -0,0 +1,36 @@
+package sgf.managers;
+
+import java.util.function.Consumer;
+import sgf.model.enemies.Enemy;
+
+/**
+ * Collects the damage inflicted to the enemies during a tick, so that it is applied all at once in {@link TickPhase#DAMAGE}.
+ * Every enemy is then checked once per tick, and it dies exactly once.
+ */
+public interface DamageQueue {
+
+    /**
+     * Records some damage to be inflicted to an {@link Enemy}.
+     * @param enemy the enemy that is hit
+     * @param amount the damage inflicted
+     */
+    void enqueue(Enemy enemy, double amount);
+
+    /**
+     * Inflicts all the recorded damage, then forgets it.
+     * @param onKill called once for every enemy killed by the damage
+     */
+    void apply(Consumer<Enemy> onKill);
+
+    /**
+     * Returns the total damage inflicted to the enemies so far.
+     * @return the damage inflicted
+     */
+    double getDamageDealt();
+
+    /**
+     * Returns the number of enemies killed so far.
+     * @return the number of kills
+     */
+    int getKills();
+}
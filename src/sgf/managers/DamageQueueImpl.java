@@ -0,0 +1,69 @@
+package sgf.managers;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import sgf.model.enemies.Enemy;
+
+/**
+ * Implementation of {@link DamageQueue} that keeps the damage in parallel arrays, with one slot per hit enemy:
+ * the hits an enemy takes in the same tick are added up in its slot.
+ */
+public class DamageQueueImpl implements DamageQueue {
+    private static final int INITIAL_CAPACITY = 16;
+    private final Map<Enemy, Integer> slots = new IdentityHashMap<>();     // Enemies are told apart by identity, not by position.
+    private Enemy[] enemies = new Enemy[INITIAL_CAPACITY];
+    private double[] amounts = new double[INITIAL_CAPACITY];
+    private int size;
+    private double damageDealt;
+    private int kills;
+
+    @Override
+    public void enqueue(final Enemy enemy, final double amount) {
+        if (enemy == null) {
+            throw new IllegalArgumentException("Enemy cannot be null");
+        }
+        final Integer slot = this.slots.get(enemy);
+        if (slot != null) {
+            this.amounts[slot] += amount;
+            return;
+        }
+        if (this.size == this.enemies.length) {
+            this.enemies = Arrays.copyOf(this.enemies, this.size * 2);
+            this.amounts = Arrays.copyOf(this.amounts, this.size * 2);
+        }
+        this.slots.put(enemy, this.size);
+        this.enemies[this.size] = enemy;
+        this.amounts[this.size] = amount;
+        this.size++;
+    }
+
+    @Override
+    public void apply(final Consumer<Enemy> onKill) {
+        for (int i = 0; i < this.size; i++) {
+            final Enemy enemy = this.enemies[i];
+            if (enemy.getHP() > 0) {    // Enemies already dead are not killed twice.
+                enemy.damageSuffered(this.amounts[i]);
+                this.damageDealt += this.amounts[i];
+                if (enemy.getHP() <= 0) {
+                    this.kills++;
+                    onKill.accept(enemy);
+                }
+            }
+            this.enemies[i] = null;     // Dead enemies must not be kept alive by the queue.
+        }
+        this.size = 0;
+        this.slots.clear();
+    }
+
+    @Override
+    public double getDamageDealt() {
+        return this.damageDealt;
+    }
+
+    @Override
+    public int getKills() {
+        return this.kills;
+    }
+}
@@ -1,6 +1,7 @@
 package sgf.managers;
 
 import sgf.model.enemies.Enemy;
+import sgf.model.map.GridPosition;
 
 /**
  * Represents a single enemy.
@@ -19,7 +20,24 @@ public interface EnemyManager {
     void disappear();
 
     /**
-     * Stops the thread.
+     * Rewards the player for killing the enemy and deletes it.
+     */
+    void kill();
+
+    /**
+     * Returns the cell of the enemy grid the enemy is in, updated whenever it crosses a tile boundary.
+     * @return the cell of the enemy.
+     */
+    GridPosition getCell();
+
+    /**
+     * Advances the enemy by a single tick of the {@link GameLoop}: it moves it and checks
+     * whether it reached the end of the path.
+     */
+    void update();
+
+    /**
+     * Stops the enemy, which won't be updated anymore.
      */
     void stopThread();
 }
@@ -1,34 +1,27 @@
 package sgf.managers;
-import java.util.Optional;
 
 import sgf.controller.enemy.EnemyController;
 import sgf.controller.game.PlayerController;
-import sgf.helpers.ImgTileSize;
 import sgf.model.enemies.Enemy;
 import sgf.model.game.Stoppable;
-import sgf.model.map.Direction;
 import sgf.model.map.GridPosition;
-import sgf.model.map.Map;
+import sgf.model.map.Path;
 import sgf.model.map.Position;
-import sgf.utilities.Pair;
-import sgf.utilities.PositionConverter;
-import sgf.utilities.ThreadAndViewObservable;
+import sgf.utilities.SpatialGrid;
 
 /**
  * Class that manages each single enemy.
  */
 public class EnemyManagerImpl implements EnemyManager, Stoppable {
-    private static final int ENEMY_SPEED = 8;
-    private final int imgSize = ImgTileSize.getTileSize();
-    private volatile boolean threadRun = true; // Boolean that manages the thread loop.
+    private volatile boolean active = true; // Tells whether the enemy is still updated by the game loop.
     private final Enemy enemy;
-    private final Map map;
+    private final Path path;    // Path walked by the enemy.
+    private final double stepLength;    // Distance travelled in a tick.
     private final EnemyController enemyController;
-    private int stepsDone;
-    private Optional<Direction> lastDir = Optional.empty();
-    private final PositionConverter converter; // Converts the gridPosition to Position.
     private final PlayerController playerController;  //Manager of Player, used to update his stats.
-    private Thread gameThread;
+    private final SpatialGrid<EnemyManager> enemyGrid;
+    private GridPosition cell;  // Cell of the enemy grid the enemy is in.
+    private GridPosition nextCell = new GridPosition(0, 0);    // Swapped with cell when the enemy changes cell, to avoid allocations.
 
     /**
      * Creates a managerImpl that controls the enemy's movement.
@@ -36,87 +29,61 @@ public class EnemyManagerImpl implements EnemyManager, Stoppable {
      * @param levelManager the manager of the current level
      * @param enemyController the controller of the enemy view
      * @param playerController the controller of the player
+     * @param tickLength the length of a tick of the game loop in milliseconds
      */
     public EnemyManagerImpl(final Enemy enemy, final LevelManager levelManager, final EnemyController enemyController, 
-            final PlayerController playerController) {
-        ThreadAndViewObservable.register(this);
+            final PlayerController playerController, final int tickLength) {
         this.enemy = enemy;
-        this.map = levelManager.getMap();
+        this.path = levelManager.getMap().getPath();
+        this.stepLength = getStepLength(enemy, tickLength);
         this.enemyController = enemyController;
-        this.converter = new PositionConverter(ImgTileSize.getTileSize());
         this.playerController = playerController;
-        this.startEnemyThread();
+        this.enemyGrid = enemyController.getEnemyGrid();
+        this.cell = this.enemyGrid.getCell(enemy.getPosition());
     }
 
-    private void startEnemyThread() {
-        if (gameThread == null) {
-            gameThread = new Thread(new Runnable() {
-                @Override
-                public void run() {
-                    while (threadRun) {
-                        try {
-                            checkLife();
-                            nextMovement();
-                            checkFinalDestination();
-                            Thread.sleep(ENEMY_SPEED);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                }
-            });
+    /**
+     * Computes the distance an {@link Enemy} travels along the path in a tick.
+     * @param enemy the enemy
+     * @param tickLength the length of a tick of the game loop in milliseconds
+     * @return the distance travelled in a tick
+     */
+    public static double getStepLength(final Enemy enemy, final int tickLength) {
+        // The speed of an enemy is the distance it travels in a tick of the default length, so it is scaled to the actual one.
+        return enemy.getSpeed() * tickLength / GameLoopImpl.DEFAULT_TICK_LENGTH;
+    }
+
+    @Override
+    public void update() {
+        if (this.active) {  // Deaths are found when the damage is inflicted, during the damage phase of the game loop.
+            this.nextMovement();
+            this.checkFinalDestination();
         }
-        gameThread.start();
     }
 
     /**
-     * Checks if the sprite is over the screen, and in that case it calls the complete methods. 
+     * Checks if the enemy has walked the whole path, leaving the screen, and in that case it calls the complete methods. 
      */
     private void checkFinalDestination() {
-        final double x = this.enemy.getPosition().getX();
-        final double y = this.enemy.getPosition().getY();
-        if (x == -imgSize || y == -imgSize || this.endIntoMap(x)  || this.endIntoMap(y)) { // Checks if the sprite isn't in the limits of the screen (left and up).
+        if (this.enemy.getPathProgress() >= this.path.getLength()) {
             endReached();
         }
     }
 
-    private boolean endIntoMap(final double v) {
-        return this.map.getSize() * imgSize == v; // Checks if the sprite isn't in the limits of the screen (right and down).
-    }
-
     private void nextMovement() {
-        if (this.initialPart()) { // It checks if the enemy is at the start of the tile.
-            this.takeDirection(); // It selects and sets up the direction.
-        }
-        this.stepsDone += this.enemy.getSpeed(); // Sets the step to the next position of the cell.
-        if (this.stepsDone >= this.imgSize) { // If it is at the end of the tile, it resets to zero.
-            this.stepsDone = 0;
-        }
-        this.enemyMovement(this.lastDir.orElseThrow()); // Moves the enemy.
-    }
-
-    // Checks if the enemy is at the start of the tile.
-    private boolean initialPart() {
-        return stepsDone == 0; 
-    }
-
-    // Takes the next direction.
-    private void takeDirection() {
-        final GridPosition p = this.converter.convertToGridPosition(this.enemy.getPosition());
-        final Optional<Direction> d = this.map.getTiles().get(p).getTileDirection();
-        this.lastDir = d;
-    }
-
-    private void enemyMovement(final Direction dir) {
-        final Position p =  this.enemy.getPosition(); // Takes the current position of the enemy.
-        final double speed = this.enemy.getSpeed(); // Takes the speed, advancement step, of the specific enemy.
-        final Pair<Integer, Integer> vec = dir.toUnitVector(); // Takes the direction vector that permits to move the enemy to the right direction.
-        enemy.move(p.getX() + vec.getX() * speed, p.getY() + vec.getY() * speed); // Moves the enemy to the next position.
-    }
-
-    private void checkLife() {
-        if (this.enemy.getHP() <= 0) {
-            unitDeath();
+        this.enemy.moveAlong(this.path, this.stepLength); // Moves the enemy.
+        this.updateCell();
+    }
+
+    // Moves the enemy to another cell of the grid, only when it has crossed a tile boundary.
+    private void updateCell() {
+        final Position p = this.enemy.getPosition();
+        if (!this.enemyGrid.isInside(this.cell, p)) {
+            this.enemyGrid.getCell(p, this.nextCell);
+            this.enemyGrid.move(this, this.cell, this.nextCell);
+            final GridPosition previous = this.cell;
+            this.cell = this.nextCell;
+            this.nextCell = previous;
         }
     }
 
@@ -125,9 +92,14 @@ public class EnemyManagerImpl implements EnemyManager, Stoppable {
         return this.enemy;
     }
 
+    @Override
+    public GridPosition getCell() {
+        return this.cell;
+    }
+
     @Override
     public void disappear() {
-        this.threadRun = false; // Stops the thread.
+        this.active = false; // The enemy will not be updated anymore.
         this.enemyController.removeEnemy(this);
     }
 
@@ -137,7 +109,8 @@ public class EnemyManagerImpl implements EnemyManager, Stoppable {
         this.disappear();
     }
 
-    private void unitDeath() {
+    @Override
+    public void kill() {
         this.playerController.changeMoney((int) this.enemy.getPoints());
         this.playerController.changeScore((int) this.enemy.getPoints());
         this.disappear();
@@ -145,13 +118,12 @@ public class EnemyManagerImpl implements EnemyManager, Stoppable {
 
     @Override
     public void stopThread() {
-        this.threadRun = false;
+        this.active = false;
     }
 
     @Override
     public String toString() {
-        return "EnemyManagerImpl [threadRun=" + threadRun + ", enemy=" + enemy + ", stepsDone=" + stepsDone
-                + ", lastDir=" + lastDir + "]";
+        return "EnemyManagerImpl [active=" + active + ", enemy=" + enemy + ", stepLength=" + stepLength + "]";
     }
 
     @Override
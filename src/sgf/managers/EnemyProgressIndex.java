@@ -0,0 +1,78 @@
+package sgf.managers;
+
+import java.util.function.Consumer;
+import sgf.model.enemies.Enemy;
+
+/**
+ * Index of the live enemies, kept in order of progress along the path.
+ * Additions and removals are applied, and the order refreshed, only by {@link #update()}, which is meant to be called
+ * once per tick after the enemies have moved. It is not thread safe: it is meant to be used by the {@link GameLoop} thread only.
+ * Queries are run by every turret at every search, so they return null instead of an {@link java.util.Optional} when nothing is found.
+ */
+public interface EnemyProgressIndex {
+
+    /**
+     * Adds an enemy to the index at the next update.
+     * @param enemy the enemy to add
+     */
+    void add(Enemy enemy);
+
+    /**
+     * Removes an enemy from the index at the next update.
+     * @param enemy the enemy to remove
+     */
+    void remove(Enemy enemy);
+
+    /**
+     * Applies the pending additions and removals and sorts the enemies again by their current path progress.
+     */
+    void update();
+
+    /**
+     * Returns the alive enemy that is furthest along the path among the ones whose progress is within the given bounds.
+     * @param from the lower bound of the progress, inclusive
+     * @param to the upper bound of the progress, inclusive
+     * @return the furthest enemy, or null if there is none
+     */
+    Enemy getFurthestIn(double from, double to);
+
+    /**
+     * Returns the alive enemy that is least far along the path among the ones whose progress is within the given bounds.
+     * @param from the lower bound of the progress, inclusive
+     * @param to the upper bound of the progress, inclusive
+     * @return the least advanced enemy, or null if there is none
+     */
+    Enemy getLastIn(double from, double to);
+
+    /**
+     * Returns the alive enemy with the most HP among the ones whose progress is within the given bounds.
+     * HP are the ones read at the last update.
+     * @param from the lower bound of the progress, inclusive
+     * @param to the upper bound of the progress, inclusive
+     * @return the strongest enemy, or null if there is none
+     */
+    Enemy getStrongestIn(double from, double to);
+
+    /**
+     * Returns the alive enemy with the least HP among the ones whose progress is within the given bounds.
+     * HP are the ones read at the last update.
+     * @param from the lower bound of the progress, inclusive
+     * @param to the upper bound of the progress, inclusive
+     * @return the weakest enemy, or null if there is none
+     */
+    Enemy getWeakestIn(double from, double to);
+
+    /**
+     * Runs an action on all the enemies whose progress is within the given bounds, in order of progress.
+     * @param from the lower bound of the progress, inclusive
+     * @param to the upper bound of the progress, inclusive
+     * @param action the action to run
+     */
+    void forEachIn(double from, double to, Consumer<? super Enemy> action);
+
+    /**
+     * Returns the number of enemies in the index.
+     * @return the number of enemies
+     */
+    int size();
+}
@@ -0,0 +1,164 @@
+package sgf.managers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import sgf.model.enemies.Enemy;
+import sgf.utilities.MinMaxSegmentTree;
+
+/**
+ * Implementation of {@link EnemyProgressIndex} backed by an array sorted by progress.
+ * Enemies overtake each other rarely, so the array stays almost sorted from a tick to the next
+ * and insertion sort puts it back in order in nearly linear time. A {@link MinMaxSegmentTree} over the HP
+ * of the sorted enemies answers the strongest and weakest queries.
+ */
+public class EnemyProgressIndexImpl implements EnemyProgressIndex {
+    private static final int INITIAL_CAPACITY = 64;
+    private Enemy[] enemies = new Enemy[INITIAL_CAPACITY];
+    private double[] progress = new double[INITIAL_CAPACITY];  // Progress of the enemies, read at the last update.
+    private double[] hp = new double[INITIAL_CAPACITY];        // HP of the enemies, read at the last update, NaN if dead.
+    private final MinMaxSegmentTree hpTree = new MinMaxSegmentTree();
+    private int size;
+    private final List<Enemy> added = new ArrayList<>();
+    private final Set<Enemy> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    @Override
+    public void add(final Enemy enemy) {
+        if (!this.removed.remove(enemy)) {
+            this.added.add(enemy);
+        }
+    }
+
+    @Override
+    public void remove(final Enemy enemy) {
+        if (!this.added.removeIf(e -> e == enemy)) {    // Enemies are compared by identity, as equal ones may be on the map.
+            this.removed.add(enemy);
+        }
+    }
+
+    @Override
+    public void update() {
+        int kept = 0;
+        for (int i = 0; i < this.size; i++) {
+            final Enemy enemy = this.enemies[i];
+            if (!this.removed.contains(enemy)) {
+                this.enemies[kept] = enemy;
+                this.progress[kept] = enemy.getPathProgress();
+                kept++;
+            }
+        }
+        Arrays.fill(this.enemies, kept, this.size, null);
+        this.size = kept;
+        this.removed.clear();
+        this.ensureCapacity(this.size + this.added.size());
+        for (final Enemy enemy : this.added) {
+            this.enemies[this.size] = enemy;
+            this.progress[this.size] = enemy.getPathProgress();
+            this.size++;
+        }
+        this.added.clear();
+        this.sort();
+        for (int i = 0; i < this.size; i++) {
+            final double enemyHP = this.enemies[i].getHP();
+            this.hp[i] = enemyHP > 0 ? enemyHP : Double.NaN;
+        }
+        this.hpTree.build(this.hp, this.size);
+    }
+
+    // Insertion sort, by increasing progress.
+    private void sort() {
+        for (int i = 1; i < this.size; i++) {
+            final Enemy enemy = this.enemies[i];
+            final double key = this.progress[i];
+            int j = i - 1;
+            while (j >= 0 && this.progress[j] > key) {
+                this.enemies[j + 1] = this.enemies[j];
+                this.progress[j + 1] = this.progress[j];
+                j--;
+            }
+            this.enemies[j + 1] = enemy;
+            this.progress[j + 1] = key;
+        }
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > this.enemies.length) {
+            final int newCapacity = Math.max(capacity, this.enemies.length * 2);
+            this.enemies = Arrays.copyOf(this.enemies, newCapacity);
+            this.progress = Arrays.copyOf(this.progress, newCapacity);
+            this.hp = new double[newCapacity];
+        }
+    }
+
+    // Returns the index of the first enemy whose progress is greater than the given value.
+    private int upperBound(final double value) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.progress[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Returns the index of the first enemy whose progress is greater than or equal to the given value.
+    private int lowerBound(final double value) {
+        return this.upperBound(Math.nextDown(value));
+    }
+
+    @Override
+    public Enemy getFurthestIn(final double from, final double to) {
+        for (int i = this.upperBound(to) - 1; i >= 0 && this.progress[i] >= from; i--) {
+            if (this.enemies[i].getHP() > 0) {
+                return this.enemies[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Enemy getLastIn(final double from, final double to) {
+        final int end = this.upperBound(to);
+        for (int i = this.lowerBound(from); i < end; i++) {
+            if (this.enemies[i].getHP() > 0) {
+                return this.enemies[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Enemy getStrongestIn(final double from, final double to) {
+        return this.toEnemy(this.hpTree.indexOfMax(this.lowerBound(from), this.upperBound(to)));
+    }
+
+    @Override
+    public Enemy getWeakestIn(final double from, final double to) {
+        return this.toEnemy(this.hpTree.indexOfMin(this.lowerBound(from), this.upperBound(to)));
+    }
+
+    private Enemy toEnemy(final int index) {
+        return index < 0 ? null : this.enemies[index];
+    }
+
+    @Override
+    public void forEachIn(final double from, final double to, final Consumer<? super Enemy> action) {
+        final int end = this.upperBound(to);
+        for (int i = this.lowerBound(from); i < end; i++) {
+            action.accept(this.enemies[i]);
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
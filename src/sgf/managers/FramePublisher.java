@@ -0,0 +1,15 @@
+package sgf.managers;
+
+import sgf.model.game.FrameSnapshot;
+
+/**
+ * Takes a {@link FrameSnapshot} of the game at the end of every tick of the {@link GameLoop} and hands the latest one to the views.
+ */
+public interface FramePublisher {
+
+    /**
+     * Returns the latest published snapshot. It can be called from any thread.
+     * @return the latest {@link FrameSnapshot}, {@link FrameSnapshot#EMPTY} if no tick has run yet
+     */
+    FrameSnapshot getLatest();
+}
@@ -0,0 +1,103 @@
+package sgf.managers;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import sgf.controller.bullet.BulletController;
+import sgf.controller.enemy.EnemyController;
+import sgf.controller.turret.TurretController;
+import sgf.model.bullet.Bullet;
+import sgf.model.enemies.Enemy;
+import sgf.model.game.FrameSnapshot;
+import sgf.model.map.GridPosition;
+import sgf.model.map.Position;
+import sgf.model.turret.Turret;
+
+/**
+ * Implementation of {@link FramePublisher}. The snapshot is built on the game loop thread, during {@link TickPhase#PUBLISH},
+ * so it is always taken between two ticks and never sees an entity halfway through an update.
+ * Every snapshot also holds the state of the entities at the previous tick, so frames drawn between two ticks are blended.
+ */
+public class FramePublisherImpl implements FramePublisher {
+    private final EnemyController enemyController;
+    private final BulletController bulletController;
+    private final TurretController turretController;
+    private final GameLoop gameLoop;
+    private final FrameSnapshot.Builder builder = new FrameSnapshot.Builder();
+    private final Position bulletPosition = new Position(0, 0);    // Reused to find where the bullets are drawn.
+    private final Position bulletPreviousPosition = new Position(0, 0);
+    // State published at the previous tick by enemies and turrets, which do not remember it, kept in arrays reused between ticks.
+    private Map<Object, double[]> previousStates = new IdentityHashMap<>();
+    private Map<Object, double[]> currentStates = new IdentityHashMap<>();
+    private final double[] previousState = new double[2];   // Reused to return the previous state of an entity.
+    private volatile FrameSnapshot latest = FrameSnapshot.EMPTY;
+
+    /**
+     * Creates a new instance of the class, that publishes a snapshot at every tick.
+     * @param enemyController the {@link EnemyController}
+     * @param bulletController the {@link BulletController}
+     * @param turretController the {@link TurretController}
+     * @param gameLoop the {@link GameLoop}
+     */
+    public FramePublisherImpl(final EnemyController enemyController, final BulletController bulletController,
+            final TurretController turretController, final GameLoop gameLoop) {
+        this.enemyController = enemyController;
+        this.bulletController = bulletController;
+        this.turretController = turretController;
+        this.gameLoop = gameLoop;
+        gameLoop.addHandler(TickPhase.PUBLISH, this::publish);
+    }
+
+    private void publish() {
+        final long tick = this.gameLoop.getTickCount();
+        for (final EnemyManager enemyManager : this.enemyController.getManagers()) {
+            final Enemy enemy = enemyManager.getEnemy();
+            final Position p = enemy.getPosition();
+            final double[] previous = this.swapState(enemy, p.getX(), p.getY());
+            this.builder.addEnemy(previous[0], previous[1], p.getX(), p.getY(), enemy.getPercentHp(), enemy.getEnemyType());
+        }
+        final Iterator<Bullet> bullets = this.bulletController.getBulletsIterator();
+        while (bullets.hasNext()) {
+            final Bullet bullet = bullets.next();
+            // Bullets only know where they are fired from and where they land: the point in between is only found to draw them.
+            final Position p = bullet.getPositionAt(tick, this.bulletPosition);
+            final Position previous = bullet.getPositionAt(tick - 1, this.bulletPreviousPosition);
+            this.builder.addBullet(previous.getX(), previous.getY(), p.getX(), p.getY(), bullet.getID());
+        }
+        final Iterator<Entry<GridPosition, Turret>> turrets = this.turretController.getTurretsIterator();
+        while (turrets.hasNext()) {
+            final Turret turret = turrets.next().getValue();
+            final Position p = turret.getPosition();
+            final double angle = turret.getAngle();
+            this.builder.addTurret(p.getX(), p.getY(), this.swapState(turret, angle, 0)[0], angle, turret.getID());
+        }
+        // Entities that are gone are forgotten, and the states of this tick become the previous ones.
+        this.previousStates.clear();
+        final Map<Object, double[]> swap = this.previousStates;
+        this.previousStates = this.currentStates;
+        this.currentStates = swap;
+        // The tick counter is increased after all the phases, so this snapshot belongs to the next value.
+        this.latest = this.builder.build(tick + 1, System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(this.gameLoop.getTickLength()));
+    }
+
+    // Stores the current state of an entity, returning the state it had at the previous tick, which is the current one if it is new.
+    private double[] swapState(final Object entity, final double first, final double second) {
+        double[] state = this.previousStates.remove(entity);
+        if (state == null) {
+            state = new double[] {first, second};
+        }
+        this.currentStates.put(entity, state);
+        this.previousState[0] = state[0];
+        this.previousState[1] = state[1];
+        state[0] = first;
+        state[1] = second;
+        return this.previousState;
+    }
+
+    @Override
+    public FrameSnapshot getLatest() {
+        return this.latest;
+    }
+}
@@ -0,0 +1,46 @@
+package sgf.managers;
+
+import sgf.model.game.Stoppable;
+import sgf.utilities.RollingStats;
+
+/**
+ * Drives the whole simulation with a fixed-timestep tick, advancing every {@link TickPhase} in order.
+ */
+public interface GameLoop extends Stoppable {
+
+    /**
+     * Registers a handler that will be run once per tick during the given {@link TickPhase}.
+     * Handlers of the same phase are run in registration order.
+     * @param phase the phase the handler belongs to
+     * @param handler the handler to run
+     */
+    void addHandler(TickPhase phase, Runnable handler);
+
+    /**
+     * Starts running ticks at a fixed rate on a dedicated thread. Can only be called once.
+     */
+    void start();
+
+    /**
+     * Advances the simulation by a single tick, running all the phases in order.
+     */
+    void tick();
+
+    /**
+     * Returns the length of a tick in milliseconds.
+     * @return the length of a tick
+     */
+    int getTickLength();
+
+    /**
+     * Returns the number of ticks run so far.
+     * @return the number of ticks
+     */
+    long getTickCount();
+
+    /**
+     * Returns the time taken by the latest ticks, all phases included.
+     * @return the {@link RollingStats} of the tick times in nanoseconds
+     */
+    RollingStats getTickTimes();
+}
@@ -0,0 +1,147 @@
+package sgf.managers;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import sgf.utilities.RollingStats;
+import sgf.utilities.ThreadAndViewObservable;
+import sgf.utilities.ThreadMode;
+
+/**
+ * Implementation of {@link GameLoop} that runs all the registered handlers on a single thread.
+ * The game shown on screen chooses the number of ticks per second through the {@code sgf.tickrate} system property, whose
+ * default value is 125, that is a tick every 8 milliseconds.
+ */
+public class GameLoopImpl implements GameLoop {
+    /**
+     * Default length of a tick in milliseconds.
+     */
+    public static final int DEFAULT_TICK_LENGTH = 8;
+    /**
+     * Name of the system property used to choose the number of ticks per second.
+     */
+    public static final String PROPERTY = "sgf.tickrate";
+    private static final int MILLIS_PER_SECOND = 1000;
+    private static final int MEASURED_TICKS = 512;     // Number of ticks the tick times are kept for.
+    private static final int MAX_CATCH_UP_TICKS = 5;   // Maximum number of ticks run in a row when the loop is late.
+    private final Map<TickPhase, List<Runnable>> handlers = new EnumMap<>(TickPhase.class);
+    private final int tickLength;
+    private final long tickNanos;
+    private final RollingStats tickTimes = new RollingStats(MEASURED_TICKS);
+    private volatile boolean running;
+    private volatile long tickCount;
+    private Thread loopThread;
+
+    /**
+     * Creates a game loop with the default tick length.
+     */
+    public GameLoopImpl() {
+        this(DEFAULT_TICK_LENGTH);
+    }
+
+    /**
+     * Creates a game loop with the given tick length.
+     * @param tickLength the length of a tick in milliseconds
+     */
+    public GameLoopImpl(final int tickLength) {
+        if (tickLength <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive");
+        }
+        this.tickLength = tickLength;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickLength);
+        for (final TickPhase phase : TickPhase.values()) {
+            this.handlers.put(phase, new CopyOnWriteArrayList<>());   // Handlers may be registered while the loop is running.
+        }
+    }
+
+    /**
+     * Creates a game loop with the number of ticks per second chosen through the {@code sgf.tickrate} system property.
+     * The tick length is rounded to whole milliseconds.
+     * @return the created {@link GameLoopImpl}
+     */
+    public static GameLoopImpl fromProperty() {
+        final int defaultRate = MILLIS_PER_SECOND / DEFAULT_TICK_LENGTH;
+        final int rate = Integer.getInteger(PROPERTY, defaultRate);
+        if (rate <= 0) {
+            System.err.println("Invalid value for " + PROPERTY + ": " + rate + ", " + defaultRate + " ticks per second will be used");
+            return new GameLoopImpl();
+        }
+        return new GameLoopImpl(Math.max(1, Math.round((float) MILLIS_PER_SECOND / rate)));
+    }
+
+    @Override
+    public void addHandler(final TickPhase phase, final Runnable handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler cannot be null");
+        }
+        this.handlers.get(phase).add(handler);
+    }
+
+    @Override
+    public void start() {
+        if (this.loopThread != null) {
+            throw new IllegalStateException("The game loop has already been started.");
+        }
+        this.running = true;
+        // Only a loop running on its own thread has to be stopped on exit: loops ticked by the caller are never registered,
+        // so they don't outlive their session.
+        ThreadAndViewObservable.register(this);
+        this.loopThread = ThreadMode.current().newThread("game-loop", this::runLoop);
+        this.loopThread.start();
+    }
+
+    private void runLoop() {
+        long previous = System.nanoTime();
+        long lag = 0;
+        while (this.running) {
+            final long now = System.nanoTime();
+            lag += now - previous;
+            previous = now;
+            int ticksRun = 0;
+            while (lag >= this.tickNanos && this.running) {
+                this.tick();
+                lag -= this.tickNanos;
+                if (++ticksRun == MAX_CATCH_UP_TICKS) {
+                    lag = 0;    // Too late: the missed time is dropped instead of trying to catch up with it.
+                }
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(this.tickNanos - lag);
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Override
+    public void tick() {
+        final long start = System.nanoTime();
+        for (final TickPhase phase : TickPhase.values()) {
+            this.handlers.get(phase).forEach(Runnable::run);
+        }
+        this.tickCount++;
+        this.tickTimes.add(System.nanoTime() - start);
+    }
+
+    @Override
+    public int getTickLength() {
+        return this.tickLength;
+    }
+
+    @Override
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    @Override
+    public RollingStats getTickTimes() {
+        return this.tickTimes;
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+    }
+}
@@ -0,0 +1,41 @@
+package sgf.managers;
+
+import sgf.model.game.Player;
+import sgf.model.game.SessionResult;
+import sgf.model.map.GridPosition;
+import sgf.model.turret.TargetStrategy;
+
+/**
+ * A game session that plays a level without any view, running the {@link GameLoop} as fast as possible.
+ */
+public interface HeadlessSession {
+
+    /**
+     * Buys a turret from the shop and places it on the map, before the level starts.
+     * @param turretID the ID of the turret, as read from the turrets file
+     * @param position the position of the tile the turret is placed on
+     * @return {@code true} if the turret has been placed, {@code false} if the player can't afford it or the tile isn't free grass
+     */
+    boolean placeTurret(int turretID, GridPosition position);
+
+    /**
+     * Buys a turret from the shop and places it on the map with the given {@link TargetStrategy}, before the level starts.
+     * @param turretID the ID of the turret, as read from the turrets file
+     * @param position the position of the tile the turret is placed on
+     * @param strategy the rule the turret follows to choose its target
+     * @return {@code true} if the turret has been placed, {@code false} if the player can't afford it or the tile isn't free grass
+     */
+    boolean placeTurret(int turretID, GridPosition position, TargetStrategy strategy);
+
+    /**
+     * Runs all the waves of the level to completion. Can only be called once.
+     * @return the final stats of the player
+     */
+    SessionResult run();
+
+    /**
+     * Returns the {@link Player} of the session.
+     * @return the player
+     */
+    Player getPlayer();
+}
@@ -0,0 +1,127 @@
+package sgf.managers;
+
+import java.util.Optional;
+import sgf.controller.bullet.BulletController;
+import sgf.controller.bullet.BulletControllerImpl;
+import sgf.controller.enemy.EnemyController;
+import sgf.controller.enemy.EnemyControllerImpl;
+import sgf.controller.game.PlayerController;
+import sgf.controller.game.PlayerControllerImpl;
+import sgf.controller.shop.ShopController;
+import sgf.controller.shop.ShopControllerImpl;
+import sgf.controller.turret.TurretController;
+import sgf.controller.turret.TurretControllerImpl;
+import sgf.helpers.LevelLoaderImpl;
+import sgf.helpers.TurretsLoaderImpl;
+import sgf.model.game.Leaderboard;
+import sgf.model.game.LeaderboardImpl;
+import sgf.model.game.Player;
+import sgf.model.game.PlayerImpl;
+import sgf.model.game.SessionResult;
+import sgf.model.level.Level;
+import sgf.model.map.GridPosition;
+import sgf.model.map.Map;
+import sgf.model.map.Tile;
+import sgf.model.map.TileType;
+import sgf.model.shop.ShopImpl;
+import sgf.model.turret.TargetStrategy;
+import sgf.model.turret.Turret;
+
+/**
+ * Implementation of {@link HeadlessSession}. It wires the same controllers used by the game, but no view is created
+ * and no score is written to the leaderboard, so that no Swing class is ever loaded.
+ */
+public class HeadlessSessionImpl implements HeadlessSession {
+    private final Map map;
+    private final PlayerController playerController;
+    private final ShopController shopController;
+    private final EnemyController enemyController;
+    private final TurretController turretController;
+    private final GameLoop gameLoop;
+    private boolean started;
+
+    /**
+     * Creates a session for the given level, played by a default {@link Player}.
+     * @param levelID the ID of the level to play
+     */
+    public HeadlessSessionImpl(final int levelID) {
+        this(levelID, new PlayerImpl());
+    }
+
+    /**
+     * Creates a session for the given level.
+     * @param levelID the ID of the level to play
+     * @param player the player
+     */
+    public HeadlessSessionImpl(final int levelID, final Player player) {
+        final Level level = new LevelLoaderImpl().loadLevel(levelID);
+        final LevelManager levelManager = new LevelManagerImpl(level);
+        final LeaderboardManager leaderboard = new LeaderboardManager() {
+            private final Leaderboard scores = new LeaderboardImpl();
+
+            @Override
+            public void writeScore() {
+                // Simulated games don't end up in the leaderboard file.
+            }
+
+            @Override
+            public void addScore(final String name, final int score) {
+            }
+
+            @Override
+            public Leaderboard getLeaderboard() {
+                return this.scores;
+            }
+        };
+        this.map = level.getMap();
+        this.gameLoop = new GameLoopImpl();
+        this.playerController = new PlayerControllerImpl(player, leaderboard);
+        this.shopController = new ShopControllerImpl(new GameManagerImpl(this.playerController, levelManager), new ShopImpl(new TurretsLoaderImpl()));
+        this.enemyController = new EnemyControllerImpl(levelManager, this.playerController, leaderboard, this.gameLoop);
+        final BulletController bulletController = new BulletControllerImpl(this.gameLoop, this.map.getPath(), this.enemyController.getDamageQueue());
+        this.turretController = new TurretControllerImpl(this.map, this.shopController, this.enemyController, bulletController, this.gameLoop);
+    }
+
+    @Override
+    public boolean placeTurret(final int turretID, final GridPosition position) {
+        return this.placeTurret(turretID, position, TargetStrategy.FIRST);
+    }
+
+    @Override
+    public boolean placeTurret(final int turretID, final GridPosition position, final TargetStrategy strategy) {
+        if (this.started) {
+            throw new IllegalStateException("Turrets can only be placed before the session is run.");
+        }
+        final Optional<Turret> turret = this.shopController.getTurretList().stream().filter(t -> t.getID() == turretID).findFirst();
+        if (turret.isEmpty()) {
+            throw new IllegalArgumentException("No turret with ID " + turretID);
+        }
+        final Tile tile = this.map.getTileFromGridPosition(position);
+        // Same rules of the game view: turrets can only be placed on free grass tiles.
+        if (tile == null || tile.getTileType() != TileType.GRASS || !this.turretController.isTileEmpty(position)
+                || !this.shopController.trySetSelectedTurret(turret.get())) {
+            return false;
+        }
+        this.turretController.addSelectedTurret(position);
+        this.turretController.getTurretAt(position).ifPresent(t -> t.setTargetStrategy(strategy));
+        return !this.turretController.isTileEmpty(position);
+    }
+
+    @Override
+    public SessionResult run() {
+        if (this.started) {
+            throw new IllegalStateException("The session has already been run.");
+        }
+        this.started = true;
+        while (!this.enemyController.isLevelOver()) {
+            this.gameLoop.tick();   // Ticks are run back to back on the calling thread.
+        }
+        this.gameLoop.stop();
+        return SessionResult.of(this.playerController.getPlayer());
+    }
+
+    @Override
+    public Player getPlayer() {
+        return this.playerController.getPlayer();
+    }
+}
@@ -1,7 +1,10 @@
 package sgf.managers;
 
+import java.awt.GraphicsConfiguration;
 import java.awt.Image;
+import java.awt.image.BufferedImage;
 import java.util.Map;
+import java.util.Set;
 import sgf.model.game.PathLinker;
 
 /**
@@ -25,6 +28,22 @@ public interface ImageLoaderManager<T> {
      */
     Image getImage(T element);
 
+    /**
+     * This method returns the {@link Image} of a given element scaled to the given size, in the format of the given screen.
+     * @param element Represents the element of the {@link Image} we want the sprite.
+     * @param width the width the image is drawn at.
+     * @param height the height the image is drawn at.
+     * @param config the {@link GraphicsConfiguration} of the screen, or null for the default ARGB format.
+     * @return the scaled {@link Image} of the specific type.
+     */
+    BufferedImage getImage(T element, int width, int height, GraphicsConfiguration config);
+
+    /**
+     * This method returns the elements that have an {@link Image}.
+     * @return the elements of this manager.
+     */
+    Set<T> getElements();
+
     /**
      * Fills the map with links between types and filenames.
      * @param map Is the map to be filled.
@@ -0,0 +1,233 @@
+package sgf.managers;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.imageio.ImageIO;
+
+/**
+ * Process-wide cache of the sprites loaded from the res folder, keyed by file name, size and screen format.
+ * Every file is decoded once, and every scaled copy is drawn once, however many image managers ask for it: the managers keep no
+ * image of their own, so the cache holds every sprite loaded by the game.
+ * The memory held is bounded: when it exceeds the capacity the least recently used sprites are evicted, to be loaded again if needed.
+ * The capacity is chosen in megabytes through the {@code sgf.sprites.cache} system property, whose default value is 64.
+ */
+public final class SpriteCache {
+    /**
+     * Name of the system property used to choose the capacity, in megabytes.
+     */
+    public static final String PROPERTY = "sgf.sprites.cache";
+    /**
+     * Capacity in megabytes used when the property is not set.
+     */
+    public static final int DEFAULT_MEGABYTES = 64;
+    private static final int BYTES_PER_MEGABYTE = 1 << 20;
+    private static final int BITS_PER_BYTE = 8;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final SpriteCache SHARED = new SpriteCache((long) megabytesFromProperty() * BYTES_PER_MEGABYTE);
+    private final long capacity;
+    private final Map<Key, BufferedImage> sprites = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);     // Iterated from the least recently used.
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty cache.
+     * @param capacity the maximum number of bytes held by the sprites, which is exceeded only if a single sprite is larger
+     */
+    public SpriteCache(final long capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity of the cache cannot be negative");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gives the cache shared by the whole game.
+     * @return the shared {@link SpriteCache}
+     */
+    public static SpriteCache shared() {
+        return SHARED;
+    }
+
+    private static int megabytesFromProperty() {
+        final int megabytes = Integer.getInteger(PROPERTY, DEFAULT_MEGABYTES);
+        if (megabytes < 0) {
+            System.err.println("Invalid value for " + PROPERTY + ": " + megabytes + ", " + DEFAULT_MEGABYTES + " MB will be used");
+            return DEFAULT_MEGABYTES;
+        }
+        return megabytes;
+    }
+
+    /**
+     * Gives a sprite at the size of its file.
+     * @param pngFile the name of the file, relative to the res folder
+     * @return the decoded sprite, or an empty image if the file cannot be read
+     */
+    public synchronized BufferedImage get(final String pngFile) {
+        return this.get(pngFile, 0, 0);
+    }
+
+    /**
+     * Gives a sprite scaled to the given size.
+     * @param pngFile the name of the file, relative to the res folder
+     * @param width the width of the sprite, or 0 to keep the size of the file
+     * @param height the height of the sprite, or 0 to keep the size of the file
+     * @return the scaled sprite, or an empty image if the file cannot be read
+     */
+    public synchronized BufferedImage get(final String pngFile, final int width, final int height) {
+        return this.get(pngFile, width, height, null);
+    }
+
+    /**
+     * Gives a sprite scaled to the given size, in the format of the given screen so that drawing it is a plain copy.
+     * @param pngFile the name of the file, relative to the res folder
+     * @param width the width of the sprite, or 0 to keep the size of the file
+     * @param height the height of the sprite, or 0 to keep the size of the file
+     * @param config the {@link GraphicsConfiguration} of the screen, or null to scale the sprite in the default ARGB format
+     * @return the scaled sprite, or an empty image if the file cannot be read
+     */
+    public synchronized BufferedImage get(final String pngFile, final int width, final int height, final GraphicsConfiguration config) {
+        final Key key = new Key(pngFile, width, height, config);
+        final BufferedImage cached = this.sprites.get(key);
+        if (cached != null) {
+            this.hits++;
+            return cached;
+        }
+        this.misses++;
+        final BufferedImage sprite = key.isOriginal() ? load(pngFile) : scale(this.get(pngFile), width, height, config);
+        this.put(key, sprite);
+        return sprite;
+    }
+
+    /**
+     * Gives the number of requests served by a sprite already in the cache.
+     * @return the number of hits
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Gives the number of requests that needed a sprite to be loaded or scaled.
+     * @return the number of misses
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Gives the number of sprites evicted to stay within the capacity.
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Gives the memory held by the sprites in the cache.
+     * @return the number of bytes held
+     */
+    public synchronized long getBytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Gives the number of sprites in the cache.
+     * @return the number of sprites
+     */
+    public synchronized int size() {
+        return this.sprites.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "SpriteCache [sprites=" + this.sprites.size() + ", bytes=" + this.bytes + ", hits=" + this.hits
+                + ", misses=" + this.misses + ", evictions=" + this.evictions + "]";
+    }
+
+    private void put(final Key key, final BufferedImage sprite) {
+        this.sprites.put(key, sprite);
+        this.bytes += bytesOf(sprite);
+        final Iterator<BufferedImage> eldest = this.sprites.values().iterator();
+        while (this.bytes > this.capacity && this.sprites.size() > 1) {
+            this.bytes -= bytesOf(eldest.next());
+            eldest.remove();
+            this.evictions++;
+        }
+    }
+
+    private static BufferedImage load(final String pngFile) {
+        try {
+            final BufferedImage image = ImageIO.read(new File("res" + File.separator + pngFile));
+            if (image != null) {
+                return image;
+            }
+            System.err.println("Unknown image format: " + pngFile);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB); // In case of error returns an empty image.
+    }
+
+    private static BufferedImage scale(final BufferedImage source, final int width, final int height, final GraphicsConfiguration config) {
+        final BufferedImage scaled = config == null ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+                : config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        final Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    private static long bytesOf(final BufferedImage image) {
+        final DataBuffer data = image.getRaster().getDataBuffer();
+        return (long) data.getSize() * data.getNumBanks() * DataBuffer.getDataTypeSize(data.getDataType()) / BITS_PER_BYTE;
+    }
+
+    // Identifies a sprite by its file, size and format.
+    private static final class Key {
+        private final String pngFile;
+        private final int width;
+        private final int height;
+        private final GraphicsConfiguration config;     // Null for the original file and for the default format.
+
+        Key(final String pngFile, final int width, final int height, final GraphicsConfiguration config) {
+            final boolean original = width <= 0 || height <= 0;
+            this.pngFile = pngFile;
+            this.width = original ? 0 : width;
+            this.height = original ? 0 : height;
+            this.config = original ? null : config;
+        }
+
+        boolean isOriginal() {
+            return this.width == 0;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return this.pngFile.equals(other.pngFile) && this.width == other.width && this.height == other.height
+                    && this.config == other.config;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.pngFile, this.width, this.height, this.config);
+        }
+    }
+}
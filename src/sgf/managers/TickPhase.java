@@ -0,0 +1,41 @@
+package sgf.managers;
+
+/**
+ * Enumeration of the phases a tick of the {@link GameLoop} is made of, listed in execution order.
+ */
+public enum TickPhase {
+    /**
+     * New enemies and waves are spawned.
+     */
+    SPAWN,
+
+    /**
+     * Enemies move along the path.
+     */
+    MOVEMENT,
+
+    /**
+     * Turrets look for a target and aim at it.
+     */
+    TARGETING,
+
+    /**
+     * Turrets fire bullets at their targets.
+     */
+    FIRING,
+
+    /**
+     * Bullets reach their targets and hit them.
+     */
+    BULLETS,
+
+    /**
+     * The damage of the hits is inflicted to the enemies all at once, and the killed ones are removed together with the bullets still flying at them.
+     */
+    DAMAGE,
+
+    /**
+     * The state of the game is published for the views to draw it.
+     */
+    PUBLISH
+}
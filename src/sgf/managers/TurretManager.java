@@ -25,6 +25,18 @@ public interface TurretManager {
      */
     Turret getTurret();
 
+    /**
+     * Looks for a target if the {@link Turret} has none, otherwise aims at it or drops it when out of range.
+     * Called once per tick of the {@link GameLoop} during {@link TickPhase#TARGETING}.
+     */
+    void updateTarget();
+
+    /**
+     * Fires a bullet at the current target when the {@link Turret} is ready to shoot.
+     * Called once per tick of the {@link GameLoop} during {@link TickPhase#FIRING}.
+     */
+    void fire();
+
     /**
      * Returns the current level of the {@link Turret}.
      * @return the current level of the turret.
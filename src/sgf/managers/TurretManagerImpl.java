@@ -1,51 +1,49 @@
 package sgf.managers;
 
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
-import java.util.Comparator;
 import java.util.Optional;
-import javax.swing.Timer;
+import java.util.function.Consumer;
 import sgf.controller.enemy.EnemyController;
 import sgf.controller.turret.TurretController;
 import sgf.model.enemies.Enemy;
 import sgf.model.game.Stoppable;
+import sgf.model.map.PathCoverage;
 import sgf.model.map.Position;
+import sgf.model.turret.TargetStrategy;
 import sgf.model.turret.Turret;
-import sgf.utilities.LockClass;
-import sgf.utilities.Pair;
-import sgf.utilities.ThreadAndViewObservable;
 
 /**
  * Class that manages a turret.
  */
 public class TurretManagerImpl implements TurretManager, Stoppable {
 
-    private static final int UPDATE_DELAY = 20;
+    private static final double MILLIS_PER_SECOND = 1000;
     private final Turret turret;
-    private volatile boolean isThreadRunning = true;
-    private Thread gameThread;
+    private final TurretController turretController;
     private final EnemyController enemyController;
-    private final Timer bulletTimer;
+    private final PathCoverage coverage;    // Stretches of the path within the range of the turret.
+    private final int fireDelay;    // Number of ticks between two shots.
+    private int ticksToNextShot;
+    private volatile boolean isActive = true;
+    private final Consumer<EnemyManager> closestCandidate = this::checkClosest;    // Created once, as it is used at every search.
+    private Enemy closest;          // Closest enemy found so far by the current search.
+    private double closestDistance;
 
     /**
      * Creates a new instance of the class.
      * @param turret the {@link Turret}
      * @param turretController the {@link TurretController}
      * @param enemyController the {@link EnemyController}
+     * @param coverage the {@link PathCoverage} of the turret, already placed on the map
+     * @param tickLength the length of a tick of the {@link GameLoop} in milliseconds
      */
-    public TurretManagerImpl(final Turret turret, final TurretController turretController, final EnemyController enemyController) {
+    public TurretManagerImpl(final Turret turret, final TurretController turretController, final EnemyController enemyController,
+            final PathCoverage coverage, final int tickLength) {
         this.turret = turret;
+        this.turretController = turretController;
         this.enemyController = enemyController;
-        ThreadAndViewObservable.register(this);
-        this.bulletTimer = new Timer((int) (1000 / getTurret().getFireRate()), new ActionListener() {
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                if (turret.getTarget() != null) {
-                    turretController.bulletCreated(getTurret().createBullet());
-                }
-            }
-        });
-        this.startTurretThread();
+        this.coverage = coverage;
+        this.fireDelay = Math.max(1, (int) Math.round(MILLIS_PER_SECOND / turret.getFireRate() / tickLength));
+        this.ticksToNextShot = this.fireDelay;
     }
 
     @Override
@@ -53,6 +51,34 @@ public class TurretManagerImpl implements TurretManager, Stoppable {
         return this.turret;
     }
 
+    @Override
+    public void updateTarget() {
+        if (!this.isActive) {
+            return;
+        }
+        final Optional<Enemy> target = this.turret.getTarget();
+        if (target.isEmpty() || target.get().getHP() <= 0) {        // Checks if there is a target and if there is one, it checks its HP.
+            this.turret.setState(false);
+            this.findTarget();
+        } else if (this.coverage.covers(target.get().getPathProgress())) {       // Checks if the target is inside the turret's range.
+            this.pointToTarget(target.get().getPosition());                      // rotation
+            this.turret.setState(true);
+        } else {
+            this.turret.setState(false);
+            this.turret.setTarget(null);
+        }
+    }
+
+    @Override
+    public void fire() {
+        if (!this.isActive || !this.turret.isAttacking()) {
+            this.ticksToNextShot = this.fireDelay;      // The countdown restarts as soon as the turret starts attacking again.
+        } else if (--this.ticksToNextShot <= 0) {
+            this.ticksToNextShot = this.fireDelay;
+            this.turretController.bulletCreated(this.turret.createBullet());
+        }
+    }
+
     @Override
     public int getCurrentUpgradeLevel() {
         throw new UnsupportedOperationException();
@@ -85,64 +111,86 @@ public class TurretManagerImpl implements TurretManager, Stoppable {
 
     @Override
     public void stop() {
-        this.isThreadRunning = false;
-        this.gameThread.interrupt();
+        this.isActive = false;
     }
 
     /**
-     * Starts the turret thread.
+     * Searches an enemy in range according to the {@link TargetStrategy} of the turret and sets it as a target.
      */
-    private void startTurretThread() {
-        if (gameThread == null) {
-            gameThread = new Thread(new Runnable() {
-                @Override
-                public void run() {
-                    while (isThreadRunning) {
-                        try {
-                            final Optional<Enemy> target = turret.getTarget();
-                            if (target.isEmpty() || target.get().getHP() <= 0) {        // Checks if there is a target and if there is one, it checks its HP.
-                                bulletTimer.stop();
-                                findTarget();
-                            } else {
-                                final Position turretPosition = turret.getPosition();
-                                final Position targetPosition = target.get().getPosition();
-                                if (turretPosition.distanceTo(targetPosition) <= turret.getRange()) {       // Checks if the target is inside the turret's range.
-                                    pointToTarget(targetPosition);                      // rotation
-                                    if (!bulletTimer.isRunning()) {
-                                        bulletTimer.start();
-                                    }
-                                } else {
-                                    turret.setTarget(null);
-                                }
-                            }
-                            Thread.sleep(UPDATE_DELAY);
-                        } catch (InterruptedException e) {
-                        }
-                    }
-                }
-            });
+    private void findTarget() {
+        final EnemyProgressIndex index = this.enemyController.getProgressIndex();
+        final Enemy found;
+        switch (this.turret.getTargetStrategy()) {
+        case LAST:
+            found = this.findLast(index);
+            break;
+        case STRONGEST:
+            found = this.findByHP(index, true);
+            break;
+        case WEAKEST:
+            found = this.findByHP(index, false);
+            break;
+        case CLOSEST:
+            found = this.findClosest();
+            break;
+        default:
+            found = this.findFirst(index);
+            break;
         }
-        this.gameThread.start();
+        this.turret.setTarget(found);
     }
 
-    /**
-     * Searches the closest enemy to the turret and sets it as a target.
-     */
-    private void findTarget() {
-        LockClass.getEnemySemaphore().acquireUninterruptibly();
-        final var closest = this.enemyController.getManagerList().stream()
-                                             .filter(e -> e.getEnemy().getHP() > 0 && this.turret.getPosition().distanceTo(e.getEnemy().getPosition()) <= this.turret.getRange()) // Ignores enemies with HP lower or equal to 0
-                                             .map(e -> Pair.from(e, e.getEnemy().getSteps()))
-                                             .min(new Comparator<Pair<EnemyManager, Double>>() {
-                                                 public int compare(final Pair<EnemyManager, Double> p1, final Pair<EnemyManager, Double> p2) {
-                                                     return Double.compare(p2.getY(), p1.getY());
-                                                 }
-                                             });
-        LockClass.getEnemySemaphore().release();
-        if (closest.isPresent()) {
-            this.turret.setTarget(closest.get().getX().getEnemy());
-        } else {
-            this.turret.setTarget(null);
+    // Stretches further along the path are checked first, each with a binary search on the index.
+    private Enemy findFirst(final EnemyProgressIndex index) {
+        Enemy found = null;
+        for (int i = this.coverage.getStretchesCount() - 1; i >= 0 && found == null; i--) {
+            found = index.getFurthestIn(this.coverage.getStart(i), this.coverage.getEnd(i));
+        }
+        return found;
+    }
+
+    // Stretches closer to the start of the path are checked first, each with a binary search on the index.
+    private Enemy findLast(final EnemyProgressIndex index) {
+        Enemy found = null;
+        for (int i = 0; i < this.coverage.getStretchesCount() && found == null; i++) {
+            found = index.getLastIn(this.coverage.getStart(i), this.coverage.getEnd(i));
+        }
+        return found;
+    }
+
+    // Every stretch is a range query on the segment tree of the index, the best of them is kept.
+    private Enemy findByHP(final EnemyProgressIndex index, final boolean strongest) {
+        Enemy best = null;
+        for (int i = 0; i < this.coverage.getStretchesCount(); i++) {
+            final double start = this.coverage.getStart(i);
+            final double end = this.coverage.getEnd(i);
+            final Enemy candidate = strongest ? index.getStrongestIn(start, end) : index.getWeakestIn(start, end);
+            if (candidate != null && (best == null
+                    || (strongest ? candidate.getHP() > best.getHP() : candidate.getHP() < best.getHP()))) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    // Distance from the turret doesn't follow the path order, so only the enemies in the tiles overlapped by the range are checked.
+    private Enemy findClosest() {
+        this.closest = null;
+        this.closestDistance = Double.MAX_VALUE;
+        this.enemyController.getEnemyGrid().forEachInRange(this.turret.getPosition(), this.turret.getRange(), this.closestCandidate);
+        final Enemy found = this.closest;
+        this.closest = null;
+        return found;
+    }
+
+    private void checkClosest(final EnemyManager candidate) {
+        final Enemy enemy = candidate.getEnemy();
+        if (enemy.getHP() > 0 && this.coverage.covers(enemy.getPathProgress())) {
+            final double distance = this.turret.getPosition().squaredDistanceTo(enemy.getPosition());  // Comparing squares is enough.
+            if (distance < this.closestDistance) {
+                this.closest = enemy;
+                this.closestDistance = distance;
+            }
         }
     }
 
@@ -21,11 +21,33 @@ public interface Bullet {
     double getSpeed();
 
     /**
-     * Returns the bullet's position.
-     * @return the bullet's position
+     * Returns the position the bullet is fired from. While flying, its position is given by {@link #getPositionAt}.
+     * @return the bullet's starting position
      */
     Position getPosition();
 
+    /**
+     * Aims the bullet, that will fly in a straight line from its starting position to the point of impact.
+     * @param impactPosition the point where the bullet meets its target
+     * @param fireTick the tick the bullet is fired at
+     * @param impactTick the tick the bullet reaches the point of impact at
+     */
+    void aim(Position impactPosition, long fireTick, long impactTick);
+
+    /**
+     * Returns the tick the bullet reaches its point of impact at.
+     * @return the tick of impact
+     */
+    long getImpactTick();
+
+    /**
+     * Finds where the bullet is along its flight at a given time. It is only needed to draw the bullet.
+     * @param tick the time, in ticks, even between two of them
+     * @param out the {@link Position} that receives the point, so that no position is allocated
+     * @return the given position
+     */
+    Position getPositionAt(double tick, Position out);
+
     /**
      * Returns the target's position.
      * @return the target's position
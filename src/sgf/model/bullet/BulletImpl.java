@@ -8,10 +8,13 @@ import sgf.model.map.Position;
  */
 public class BulletImpl implements Bullet {
 
-    private final int id;
-    private final double speed;
-    private final double damage;
+    private int id;
+    private double speed;
+    private double damage;
     private final Position position;
+    private final Position impactPosition = new Position(0, 0);
+    private long fireTick;
+    private long impactTick;
     private Enemy target;
 
     /**
@@ -23,16 +26,28 @@ public class BulletImpl implements Bullet {
      * @param target the target of the bullet
      */
     public BulletImpl(final int id, final double speed, final Position position, final double damage, final Enemy target) {
-        this.id = id;
-        this.speed = speed;
         this.position = new Position(position);
-        this.damage = damage;
+        this.reset(id, speed, position, damage, target);
+    }
 
+    // Sets up the bullet again, so that it can be reused by a pool.
+    final void reset(final int id, final double speed, final Position position, final double damage, final Enemy target) {
         if (target == null) {
             throw new IllegalArgumentException("Target must not be null!");
-        } else {
-            this.target = target;
         }
+        this.id = id;
+        this.speed = speed;
+        this.position.setCoordinates(position.getX(), position.getY());
+        this.impactPosition.setCoordinates(position.getX(), position.getY());     // Until it is aimed, the bullet stands still.
+        this.fireTick = 0;
+        this.impactTick = 0;
+        this.damage = damage;
+        this.target = target;
+    }
+
+    // Drops the reference to the target, when the bullet goes back to a pool.
+    void clearTarget() {
+        this.target = null;
     }
 
     @Override
@@ -50,6 +65,35 @@ public class BulletImpl implements Bullet {
         return this.position;
     }
 
+    @Override
+    public void aim(final Position impactPosition, final long fireTick, final long impactTick) {
+        if (impactTick < fireTick) {
+            throw new IllegalArgumentException("A bullet cannot hit before being fired");
+        }
+        this.impactPosition.setCoordinates(impactPosition.getX(), impactPosition.getY());
+        this.fireTick = fireTick;
+        this.impactTick = impactTick;
+    }
+
+    @Override
+    public long getImpactTick() {
+        return this.impactTick;
+    }
+
+    @Override
+    public Position getPositionAt(final double tick, final Position out) {
+        if (tick >= this.impactTick) {
+            out.setCoordinates(this.impactPosition.getX(), this.impactPosition.getY());
+        } else if (tick <= this.fireTick) {
+            out.setCoordinates(this.position.getX(), this.position.getY());
+        } else {
+            final double t = (tick - this.fireTick) / (this.impactTick - this.fireTick);
+            out.setCoordinates(this.position.getX() + (this.impactPosition.getX() - this.position.getX()) * t,
+                    this.position.getY() + (this.impactPosition.getY() - this.position.getY()) * t);
+        }
+        return out;
+    }
+
     @Override
     public Position getTargetPosition() {
         return this.target.getPosition();
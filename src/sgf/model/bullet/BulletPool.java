@@ -0,0 +1,33 @@
+package sgf.model.bullet;
+
+/**
+ * A {@link BulletFactory} that recycles the bullets it creates. Bullets must be given back through {@link #release(Bullet)}
+ * when they hit their target or their target dies, and must not be used anymore after that.
+ * It is not thread safe: it is meant to be used by the game loop thread only.
+ */
+public interface BulletPool extends BulletFactory {
+
+    /**
+     * Gives back a bullet, which will be reused by the next call to {@link #createBullet}.
+     * @param bullet the bullet, created by this pool
+     */
+    void release(Bullet bullet);
+
+    /**
+     * Returns the number of bullets waiting in the pool to be reused.
+     * @return the number of idle bullets
+     */
+    int getPoolSize();
+
+    /**
+     * Returns the number of bullets created by the pool and not released yet.
+     * @return the number of bullets in use
+     */
+    int getInUse();
+
+    /**
+     * Returns the maximum number of bullets that have been in use at the same time.
+     * @return the high-water mark of the bullets in use
+     */
+    int getHighWaterMark();
+}
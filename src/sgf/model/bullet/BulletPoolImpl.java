@@ -0,0 +1,55 @@
+package sgf.model.bullet;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import sgf.model.enemies.Enemy;
+import sgf.model.map.Position;
+
+/**
+ * Implementation of {@link BulletPool} that keeps the released bullets in a stack.
+ */
+public class BulletPoolImpl implements BulletPool {
+    private final Deque<BulletImpl> idle = new ArrayDeque<>();
+    private int inUse;
+    private int highWaterMark;
+
+    @Override
+    public Bullet createBullet(final int id, final double speed, final Position startPosition, final double damage, final Enemy enemyTarget) {
+        final BulletImpl bullet;
+        if (this.idle.isEmpty()) {
+            bullet = new BulletImpl(id, speed, startPosition, damage, enemyTarget);
+        } else {
+            bullet = this.idle.pop();
+            bullet.reset(id, speed, startPosition, damage, enemyTarget);
+        }
+        this.inUse++;
+        this.highWaterMark = Math.max(this.highWaterMark, this.inUse);
+        return bullet;
+    }
+
+    @Override
+    public void release(final Bullet bullet) {
+        if (!(bullet instanceof BulletImpl)) {
+            throw new IllegalArgumentException("The bullet has not been created by this pool.");
+        }
+        final BulletImpl released = (BulletImpl) bullet;
+        released.clearTarget();     // The enemy must not be kept alive by an idle bullet.
+        this.idle.push(released);
+        this.inUse--;
+    }
+
+    @Override
+    public int getPoolSize() {
+        return this.idle.size();
+    }
+
+    @Override
+    public int getInUse() {
+        return this.inUse;
+    }
+
+    @Override
+    public int getHighWaterMark() {
+        return this.highWaterMark;
+    }
+}
@@ -1,5 +1,6 @@
 package sgf.model.enemies;
 
+import sgf.model.map.Path;
 import sgf.model.map.Position;
 
 /**
@@ -38,6 +39,13 @@ public interface Enemy {
      */
     void move(double x, double y);
 
+    /**
+     * Moves the enemy forward along a {@link Path}: its position is the point of the path at the distance travelled so far.
+     * @param path the path walked by the enemy.
+     * @param distance the distance to travel, even a fraction of a pixel.
+     */
+    void moveAlong(Path path, double distance);
+
     /**
      * Take the percentage of enemy Life. 
      * @return the percentage of enemy life.
@@ -60,5 +68,11 @@ public interface Enemy {
      * Steps done by one enemy.
      * @return the steps done.
      */
-    Double getSteps();
+    double getSteps();
+
+    /**
+     * Distance travelled by one enemy along the path, in pixels. It is the whole state of the enemy's movement.
+     * @return the path progress.
+     */
+    double getPathProgress();
 }
@@ -1,6 +1,7 @@
 package sgf.model.enemies;
 
 import java.util.Objects;
+import sgf.model.map.Path;
 import sgf.model.map.Position;
 
 /**
@@ -9,6 +10,7 @@ import sgf.model.map.Position;
 public class EnemyImpl implements Enemy {
     private final Position position;
     private double stepsDone;
+    private double travelled;   // Distance travelled along the path.
     private double hp;
     private final double maxHp;
     private double hpPercent;
@@ -59,6 +61,13 @@ public class EnemyImpl implements Enemy {
         this.stepsDone++;
     }
 
+    @Override
+    public void moveAlong(final Path path, final double distance) {
+        this.travelled += distance;
+        path.getPositionAt(this.travelled, this.position);
+        this.stepsDone++;
+    }
+
     @Override
     public EnemyType getEnemyType() {
         return this.enemyType;
@@ -81,10 +90,15 @@ public class EnemyImpl implements Enemy {
     }
 
     @Override
-    public Double getSteps() {
+    public double getSteps() {
         return this.stepsDone;
     }
 
+    @Override
+    public double getPathProgress() {
+        return this.travelled;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(this.enemyType, this.position);
@@ -107,7 +121,7 @@ public class EnemyImpl implements Enemy {
 
     @Override
     public String toString() {
-        return "EnemyImpl [position=" + position + ", stepsDone=" + stepsDone + ", hp=" + hp + ", maxHp=" + maxHp
+        return "EnemyImpl [position=" + position + ", stepsDone=" + stepsDone + ", travelled=" + travelled + ", hp=" + hp + ", maxHp=" + maxHp
                 + ", hpPercent=" + hpPercent + ", speed=" + speed + ", points=" + points + ", enemyType=" + enemyType
                 + "]";
     }
@@ -0,0 +1,430 @@
+package sgf.model.game;
+
+import java.util.Arrays;
+import sgf.model.enemies.EnemyType;
+
+/**
+ * Immutable picture of everything the views draw, taken by the game loop at the end of a tick.
+ * Entities are stored in parallel arrays of primitives, the i-th element of each array describing the i-th entity.
+ * Moving entities also keep their state at the previous tick, so a frame drawn between two ticks can blend the two states
+ * by the fraction of the tick elapsed since the snapshot was published.
+ */
+public final class FrameSnapshot {
+    /**
+     * Snapshot of a game with no entities, published before the first tick.
+     */
+    public static final FrameSnapshot EMPTY = new Builder().build(0);
+    private static final EnemyType[] ENEMY_TYPES = EnemyType.values();
+    private static final double FULL_TURN = 2 * Math.PI;
+    private final long tick;
+    private final long publishTime;     // Value of System.nanoTime() when the snapshot was published.
+    private final long tickNanos;       // Length of a tick in nanoseconds, 0 if the snapshot is not blended.
+    private final double[] enemyPreviousX;
+    private final double[] enemyPreviousY;
+    private final double[] enemyX;
+    private final double[] enemyY;
+    private final double[] enemyHpPercent;
+    private final int[] enemyType;
+    private final double[] bulletPreviousX;
+    private final double[] bulletPreviousY;
+    private final double[] bulletX;
+    private final double[] bulletY;
+    private final int[] bulletID;
+    private final double[] turretX;
+    private final double[] turretY;
+    private final double[] turretPreviousAngle;
+    private final double[] turretAngle;
+    private final int[] turretID;
+
+    private FrameSnapshot(final Builder builder, final long tick, final long publishTime, final long tickNanos) {
+        this.tick = tick;
+        this.publishTime = publishTime;
+        this.tickNanos = tickNanos;
+        this.enemyPreviousX = Arrays.copyOf(builder.enemyPreviousX, builder.enemies);
+        this.enemyPreviousY = Arrays.copyOf(builder.enemyPreviousY, builder.enemies);
+        this.enemyX = Arrays.copyOf(builder.enemyX, builder.enemies);
+        this.enemyY = Arrays.copyOf(builder.enemyY, builder.enemies);
+        this.enemyHpPercent = Arrays.copyOf(builder.enemyHpPercent, builder.enemies);
+        this.enemyType = Arrays.copyOf(builder.enemyType, builder.enemies);
+        this.bulletPreviousX = Arrays.copyOf(builder.bulletPreviousX, builder.bullets);
+        this.bulletPreviousY = Arrays.copyOf(builder.bulletPreviousY, builder.bullets);
+        this.bulletX = Arrays.copyOf(builder.bulletX, builder.bullets);
+        this.bulletY = Arrays.copyOf(builder.bulletY, builder.bullets);
+        this.bulletID = Arrays.copyOf(builder.bulletID, builder.bullets);
+        this.turretX = Arrays.copyOf(builder.turretX, builder.turrets);
+        this.turretY = Arrays.copyOf(builder.turretY, builder.turrets);
+        this.turretPreviousAngle = Arrays.copyOf(builder.turretPreviousAngle, builder.turrets);
+        this.turretAngle = Arrays.copyOf(builder.turretAngle, builder.turrets);
+        this.turretID = Arrays.copyOf(builder.turretID, builder.turrets);
+    }
+
+    /**
+     * Returns the tick the snapshot was taken at.
+     * @return the tick
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Returns the fraction of a tick elapsed since the snapshot was published, which is how far a frame drawn now must blend
+     * the previous state of the entities into the current one.
+     * @param now the current value of {@link System#nanoTime()}
+     * @return the fraction, from 0 (previous state) to 1 (current state), always 1 for a snapshot that is not blended
+     */
+    public double getAlpha(final long now) {
+        if (this.tickNanos == 0) {
+            return 1;
+        }
+        return Math.min(1, Math.max(0, (double) (now - this.publishTime) / this.tickNanos));
+    }
+
+    /**
+     * Returns the number of enemies.
+     * @return the number of enemies
+     */
+    public int getEnemyCount() {
+        return this.enemyX.length;
+    }
+
+    /**
+     * Returns the horizontal position of an enemy.
+     * @param i the index of the enemy
+     * @return the horizontal position
+     */
+    public double getEnemyX(final int i) {
+        return this.enemyX[i];
+    }
+
+    /**
+     * Returns the vertical position of an enemy.
+     * @param i the index of the enemy
+     * @return the vertical position
+     */
+    public double getEnemyY(final int i) {
+        return this.enemyY[i];
+    }
+
+    /**
+     * Returns the horizontal position of an enemy between the previous and the current tick.
+     * @param i the index of the enemy
+     * @param alpha the fraction of the tick, as given by {@link #getAlpha(long)}
+     * @return the blended horizontal position
+     */
+    public double getEnemyX(final int i, final double alpha) {
+        return lerp(this.enemyPreviousX[i], this.enemyX[i], alpha);
+    }
+
+    /**
+     * Returns the vertical position of an enemy between the previous and the current tick.
+     * @param i the index of the enemy
+     * @param alpha the fraction of the tick, as given by {@link #getAlpha(long)}
+     * @return the blended vertical position
+     */
+    public double getEnemyY(final int i, final double alpha) {
+        return lerp(this.enemyPreviousY[i], this.enemyY[i], alpha);
+    }
+
+    /**
+     * Returns the fraction of HP left to an enemy.
+     * @param i the index of the enemy
+     * @return the fraction of HP left
+     */
+    public double getEnemyHpPercent(final int i) {
+        return this.enemyHpPercent[i];
+    }
+
+    /**
+     * Returns the type of an enemy, which chooses its sprite.
+     * @param i the index of the enemy
+     * @return the {@link EnemyType}
+     */
+    public EnemyType getEnemyType(final int i) {
+        return ENEMY_TYPES[this.enemyType[i]];
+    }
+
+    /**
+     * Returns the number of bullets.
+     * @return the number of bullets
+     */
+    public int getBulletCount() {
+        return this.bulletX.length;
+    }
+
+    /**
+     * Returns the horizontal position of a bullet.
+     * @param i the index of the bullet
+     * @return the horizontal position
+     */
+    public double getBulletX(final int i) {
+        return this.bulletX[i];
+    }
+
+    /**
+     * Returns the vertical position of a bullet.
+     * @param i the index of the bullet
+     * @return the vertical position
+     */
+    public double getBulletY(final int i) {
+        return this.bulletY[i];
+    }
+
+    /**
+     * Returns the horizontal position of a bullet between the previous and the current tick.
+     * @param i the index of the bullet
+     * @param alpha the fraction of the tick, as given by {@link #getAlpha(long)}
+     * @return the blended horizontal position
+     */
+    public double getBulletX(final int i, final double alpha) {
+        return lerp(this.bulletPreviousX[i], this.bulletX[i], alpha);
+    }
+
+    /**
+     * Returns the vertical position of a bullet between the previous and the current tick.
+     * @param i the index of the bullet
+     * @param alpha the fraction of the tick, as given by {@link #getAlpha(long)}
+     * @return the blended vertical position
+     */
+    public double getBulletY(final int i, final double alpha) {
+        return lerp(this.bulletPreviousY[i], this.bulletY[i], alpha);
+    }
+
+    /**
+     * Returns the ID of a bullet, which chooses its sprite.
+     * @param i the index of the bullet
+     * @return the ID
+     */
+    public int getBulletID(final int i) {
+        return this.bulletID[i];
+    }
+
+    /**
+     * Returns the number of turrets.
+     * @return the number of turrets
+     */
+    public int getTurretCount() {
+        return this.turretX.length;
+    }
+
+    /**
+     * Returns the horizontal position of a turret.
+     * @param i the index of the turret
+     * @return the horizontal position
+     */
+    public double getTurretX(final int i) {
+        return this.turretX[i];
+    }
+
+    /**
+     * Returns the vertical position of a turret.
+     * @param i the index of the turret
+     * @return the vertical position
+     */
+    public double getTurretY(final int i) {
+        return this.turretY[i];
+    }
+
+    /**
+     * Returns the angle of a turret in radians.
+     * @param i the index of the turret
+     * @return the angle
+     */
+    public double getTurretAngle(final int i) {
+        return this.turretAngle[i];
+    }
+
+    /**
+     * Returns the angle of a turret between the previous and the current tick, turning the shortest way.
+     * @param i the index of the turret
+     * @param alpha the fraction of the tick, as given by {@link #getAlpha(long)}
+     * @return the blended angle in radians
+     */
+    public double getTurretAngle(final int i, final double alpha) {
+        final double turn = Math.IEEEremainder(this.turretAngle[i] - this.turretPreviousAngle[i], FULL_TURN);
+        return this.turretPreviousAngle[i] + turn * alpha;
+    }
+
+    /**
+     * Returns the ID of a turret, which chooses its sprite.
+     * @param i the index of the turret
+     * @return the ID
+     */
+    public int getTurretID(final int i) {
+        return this.turretID[i];
+    }
+
+    private static double lerp(final double from, final double to, final double alpha) {
+        return from + (to - from) * alpha;
+    }
+
+    /**
+     * Collects the entities of a snapshot. Its arrays are reused from a snapshot to the next,
+     * only the built {@link FrameSnapshot} gets its own copy of them.
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 16;
+        private double[] enemyPreviousX = new double[INITIAL_CAPACITY];
+        private double[] enemyPreviousY = new double[INITIAL_CAPACITY];
+        private double[] enemyX = new double[INITIAL_CAPACITY];
+        private double[] enemyY = new double[INITIAL_CAPACITY];
+        private double[] enemyHpPercent = new double[INITIAL_CAPACITY];
+        private int[] enemyType = new int[INITIAL_CAPACITY];
+        private int enemies;
+        private double[] bulletPreviousX = new double[INITIAL_CAPACITY];
+        private double[] bulletPreviousY = new double[INITIAL_CAPACITY];
+        private double[] bulletX = new double[INITIAL_CAPACITY];
+        private double[] bulletY = new double[INITIAL_CAPACITY];
+        private int[] bulletID = new int[INITIAL_CAPACITY];
+        private int bullets;
+        private double[] turretX = new double[INITIAL_CAPACITY];
+        private double[] turretY = new double[INITIAL_CAPACITY];
+        private double[] turretPreviousAngle = new double[INITIAL_CAPACITY];
+        private double[] turretAngle = new double[INITIAL_CAPACITY];
+        private int[] turretID = new int[INITIAL_CAPACITY];
+        private int turrets;
+
+        /**
+         * Adds an enemy.
+         * @param x the horizontal position
+         * @param y the vertical position
+         * @param hpPercent the fraction of HP left
+         * @param type the {@link EnemyType}
+         * @return this builder
+         */
+        public Builder addEnemy(final double x, final double y, final double hpPercent, final EnemyType type) {
+            return this.addEnemy(x, y, x, y, hpPercent, type);
+        }
+
+        /**
+         * Adds an enemy that has moved in the last tick.
+         * @param previousX the horizontal position at the previous tick
+         * @param previousY the vertical position at the previous tick
+         * @param x the horizontal position
+         * @param y the vertical position
+         * @param hpPercent the fraction of HP left
+         * @param type the {@link EnemyType}
+         * @return this builder
+         */
+        public Builder addEnemy(final double previousX, final double previousY, final double x, final double y,
+                final double hpPercent, final EnemyType type) {
+            if (this.enemies == this.enemyX.length) {
+                final int capacity = this.enemies * 2;
+                this.enemyPreviousX = Arrays.copyOf(this.enemyPreviousX, capacity);
+                this.enemyPreviousY = Arrays.copyOf(this.enemyPreviousY, capacity);
+                this.enemyX = Arrays.copyOf(this.enemyX, capacity);
+                this.enemyY = Arrays.copyOf(this.enemyY, capacity);
+                this.enemyHpPercent = Arrays.copyOf(this.enemyHpPercent, capacity);
+                this.enemyType = Arrays.copyOf(this.enemyType, capacity);
+            }
+            this.enemyPreviousX[this.enemies] = previousX;
+            this.enemyPreviousY[this.enemies] = previousY;
+            this.enemyX[this.enemies] = x;
+            this.enemyY[this.enemies] = y;
+            this.enemyHpPercent[this.enemies] = hpPercent;
+            this.enemyType[this.enemies] = type.ordinal();
+            this.enemies++;
+            return this;
+        }
+
+        /**
+         * Adds a bullet.
+         * @param x the horizontal position
+         * @param y the vertical position
+         * @param id the ID of the bullet
+         * @return this builder
+         */
+        public Builder addBullet(final double x, final double y, final int id) {
+            return this.addBullet(x, y, x, y, id);
+        }
+
+        /**
+         * Adds a bullet that has moved in the last tick.
+         * @param previousX the horizontal position at the previous tick
+         * @param previousY the vertical position at the previous tick
+         * @param x the horizontal position
+         * @param y the vertical position
+         * @param id the ID of the bullet
+         * @return this builder
+         */
+        public Builder addBullet(final double previousX, final double previousY, final double x, final double y, final int id) {
+            if (this.bullets == this.bulletX.length) {
+                final int capacity = this.bullets * 2;
+                this.bulletPreviousX = Arrays.copyOf(this.bulletPreviousX, capacity);
+                this.bulletPreviousY = Arrays.copyOf(this.bulletPreviousY, capacity);
+                this.bulletX = Arrays.copyOf(this.bulletX, capacity);
+                this.bulletY = Arrays.copyOf(this.bulletY, capacity);
+                this.bulletID = Arrays.copyOf(this.bulletID, capacity);
+            }
+            this.bulletPreviousX[this.bullets] = previousX;
+            this.bulletPreviousY[this.bullets] = previousY;
+            this.bulletX[this.bullets] = x;
+            this.bulletY[this.bullets] = y;
+            this.bulletID[this.bullets] = id;
+            this.bullets++;
+            return this;
+        }
+
+        /**
+         * Adds a turret.
+         * @param x the horizontal position
+         * @param y the vertical position
+         * @param angle the angle in radians
+         * @param id the ID of the turret
+         * @return this builder
+         */
+        public Builder addTurret(final double x, final double y, final double angle, final int id) {
+            return this.addTurret(x, y, angle, angle, id);
+        }
+
+        /**
+         * Adds a turret that has turned in the last tick.
+         * @param x the horizontal position
+         * @param y the vertical position
+         * @param previousAngle the angle in radians at the previous tick
+         * @param angle the angle in radians
+         * @param id the ID of the turret
+         * @return this builder
+         */
+        public Builder addTurret(final double x, final double y, final double previousAngle, final double angle, final int id) {
+            if (this.turrets == this.turretX.length) {
+                final int capacity = this.turrets * 2;
+                this.turretPreviousAngle = Arrays.copyOf(this.turretPreviousAngle, capacity);
+                this.turretX = Arrays.copyOf(this.turretX, capacity);
+                this.turretY = Arrays.copyOf(this.turretY, capacity);
+                this.turretAngle = Arrays.copyOf(this.turretAngle, capacity);
+                this.turretID = Arrays.copyOf(this.turretID, capacity);
+            }
+            this.turretX[this.turrets] = x;
+            this.turretY[this.turrets] = y;
+            this.turretPreviousAngle[this.turrets] = previousAngle;
+            this.turretAngle[this.turrets] = angle;
+            this.turretID[this.turrets] = id;
+            this.turrets++;
+            return this;
+        }
+
+        /**
+         * Creates a snapshot that is not blended, with the entities added so far, then empties the builder.
+         * @param tick the tick the snapshot is taken at
+         * @return the snapshot
+         */
+        public FrameSnapshot build(final long tick) {
+            return this.build(tick, 0, 0);
+        }
+
+        /**
+         * Creates the snapshot with the entities added so far, then empties the builder.
+         * @param tick the tick the snapshot is taken at
+         * @param publishTime the value of {@link System#nanoTime()} when the snapshot is published
+         * @param tickNanos the length of a tick in nanoseconds, or 0 if the snapshot is not blended
+         * @return the snapshot
+         */
+        public FrameSnapshot build(final long tick, final long publishTime, final long tickNanos) {
+            final FrameSnapshot snapshot = new FrameSnapshot(this, tick, publishTime, tickNanos);
+            this.enemies = 0;
+            this.bullets = 0;
+            this.turrets = 0;
+            return snapshot;
+        }
+    }
+}
@@ -25,6 +25,13 @@ public interface Player {
      */
     void setCurrentHP(int hp);
 
+    /**
+     * Atomically changes the current HP by an offset, never going below zero nor above the maximum.
+     * @param offset the change in HP.
+     * @return {@code true} if this change is the one that has brought the HP to zero, {@code false} otherwise.
+     */
+    boolean changeCurrentHP(int offset);
+
     /**
      * Decreases current HP by the default damage taken.
      */
@@ -47,6 +54,13 @@ public interface Player {
      */
     void setMoney(int money);
 
+    /**
+     * Atomically changes the money amount by an offset, unless the amount would go below zero.
+     * @param offset the change in money amount.
+     * @return {@code true} if the money has been changed, {@code false} if there was not enough of it.
+     */
+    boolean changeMoney(int offset);
+
     /**
      * Getter for score.
      * @return Player's current score.
@@ -59,6 +73,13 @@ public interface Player {
      */
     void setScore(int score);
 
+    /**
+     * Atomically changes the score by an offset, unless the score would go below zero.
+     * @param offset the change in score.
+     * @return {@code true} if the score has been changed, {@code false} otherwise.
+     */
+    boolean changeScore(int offset);
+
     /**
      * Getter for player's name.
      * @return Player's name.
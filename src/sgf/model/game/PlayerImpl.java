@@ -1,8 +1,10 @@
 package sgf.model.game;
 
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * 
+ * Implementation of {@link Player} whose HP, money and score can be changed from any thread:
+ * every change is a compare-and-set of the new value, so no update is lost and no lock is taken.
  */
 public class PlayerImpl implements Player {
     /**
@@ -21,9 +23,9 @@ public class PlayerImpl implements Player {
      * The Score the player starts with.
      */
     public static final int STARTING_SCORE = 0;
-    private int currentHP;
-    private int money;
-    private int score;
+    private final AtomicInteger currentHP;
+    private final AtomicInteger money;
+    private final AtomicInteger score;
     private String playerName;
     /**
      * Default constructor, sets fields at the starting value.
@@ -31,9 +33,9 @@ public class PlayerImpl implements Player {
      */
     public PlayerImpl(final String playerName) {
         super();
-        this.currentHP = MAX_HP;
-        this.money = STARTING_MONEY;
-        this.score = STARTING_SCORE;
+        this.currentHP = new AtomicInteger(MAX_HP);
+        this.money = new AtomicInteger(STARTING_MONEY);
+        this.score = new AtomicInteger(STARTING_SCORE);
         this.playerName = playerName;
     }
     /**
@@ -50,28 +52,47 @@ public class PlayerImpl implements Player {
 
     @Override
     public int getCurrentHP() {
-        return this.currentHP;
+        return this.currentHP.get();
     }
 
     @Override
     public void setCurrentHP(final int hp) {
         if (hp <= MAX_HP && hp >= 0) {
-            this.currentHP = hp;
+            this.currentHP.set(hp);
         }
     }
 
+    @Override
+    public boolean changeCurrentHP(final int offset) {
+        int current;
+        int next;
+        do {
+            current = this.currentHP.get();
+            next = Math.max(0, current + offset);
+            if (current == 0 || next > MAX_HP) {
+                return false;   // The game is lost only once, and the HP never exceed the maximum.
+            }
+        } while (!this.currentHP.compareAndSet(current, next));
+        return next == 0;
+    }
+
     @Override
     public int getMoney() {
-        return this.money;
+        return this.money.get();
     }
 
     @Override
     public void setMoney(final int money) {
        if (money >= 0) {
-           this.money = money;
+           this.money.set(money);
        }
     }
 
+    @Override
+    public boolean changeMoney(final int offset) {
+        return changeIfNotNegative(this.money, offset);
+    }
+
     @Override
     public void decreaseCurrentHP() {                           //These two might be useless.
         decreaseCurrentHP(HP_REDUCTION_STEP);
@@ -79,23 +100,38 @@ public class PlayerImpl implements Player {
 
     @Override
     public void decreaseCurrentHP(final int amount) {           //These two might be useless.
-        if (this.currentHP >= amount) {
-            this.currentHP -= amount;
-        }
+        changeIfNotNegative(this.currentHP, -amount);
     }
 
     @Override
     public int getScore() {
-        return this.score;
+        return this.score.get();
     }
 
     @Override
     public void setScore(final int score) {
         if (score >= 0) {
-            this.score = score;
+            this.score.set(score);
         }
     }
 
+    @Override
+    public boolean changeScore(final int offset) {
+        return changeIfNotNegative(this.score, offset);
+    }
+
+    // Adds the offset to the value, unless the result would be negative.
+    private static boolean changeIfNotNegative(final AtomicInteger value, final int offset) {
+        int current;
+        do {
+            current = value.get();
+            if (current + offset < 0) {
+                return false;
+            }
+        } while (!value.compareAndSet(current, current + offset));
+        return true;
+    }
+
     @Override
     public String getPlayerName() {
         return this.playerName;
@@ -0,0 +1,68 @@
+package sgf.model.game;
+
+/**
+ * Immutable outcome of a played level: the final stats of the {@link Player}.
+ */
+public final class SessionResult {
+    private final int score;
+    private final int hp;
+    private final int money;
+
+    /**
+     * Creates a new result.
+     * @param score the final score
+     * @param hp the HP left
+     * @param money the money left
+     */
+    public SessionResult(final int score, final int hp, final int money) {
+        this.score = score;
+        this.hp = hp;
+        this.money = money;
+    }
+
+    /**
+     * Creates a new result from the current stats of a {@link Player}.
+     * @param player the player
+     * @return the result
+     */
+    public static SessionResult of(final Player player) {
+        return new SessionResult(player.getScore(), player.getCurrentHP(), player.getMoney());
+    }
+
+    /**
+     * Returns the final score.
+     * @return the score
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Returns the HP left.
+     * @return the HP
+     */
+    public int getHP() {
+        return this.hp;
+    }
+
+    /**
+     * Returns the money left.
+     * @return the money
+     */
+    public int getMoney() {
+        return this.money;
+    }
+
+    /**
+     * Tells whether the level has been won, that is the player still has some HP.
+     * @return {@code true} if the level has been won, {@code false} otherwise
+     */
+    public boolean isWon() {
+        return this.hp > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionResult [score=" + score + ", hp=" + hp + ", money=" + money + "]";
+    }
+}
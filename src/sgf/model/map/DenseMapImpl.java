@@ -0,0 +1,271 @@
+package sgf.model.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Implementation of {@link Map} that keeps the grid in flat arrays, with one byte for the type and one for the direction of each cell.
+ * Cells are indexed by {@code row * size + column}, so looking up a tile needs no hashing and no boxing.
+ * The {@link java.util.Map} returned by {@link #getTiles()} is a read-only view of the arrays, kept for compatibility.
+ */
+public class DenseMapImpl implements Map {
+    private static final byte NONE = -1;    // Marks a cell without a tile, or a tile without a direction.
+    private static final TileType[] TYPES = TileType.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final List<Optional<Direction>> OPTIONAL_DIRECTIONS = new ArrayList<>();    // Shared, so no Optional is created on lookups.
+    private int mapSize;        // Is the number of tiles that form a side of the grid.
+    private byte[] types;       // Ordinal of the type of every cell.
+    private byte[] directions;  // Ordinal of the direction of every cell.
+    private Tile[] cells;       // Views of the cells, created once and returned as tiles.
+    // Tiles useful to create enemies.
+    private GridPosition startTile;
+    private GridPosition endTile;
+    private final List<GridPosition> pathTiles;     // Tiles of the path, in the order they are walked.
+    private Path path;      // Polyline through the path tiles.
+    private final java.util.Map<GridPosition, Tile> tilesView;
+
+    static {
+        for (final Direction direction : DIRECTIONS) {
+            OPTIONAL_DIRECTIONS.add(Optional.of(direction));
+        }
+    }
+
+    /**
+     * Creates an empty map with no cells.
+     */
+    public DenseMapImpl() {
+        this(0);
+    }
+
+    /**
+     * Creates a map of the given size, whose cells have no tile yet.
+     * @param mapSize Is the number of tiles that form a side of the grid.
+     */
+    public DenseMapImpl(final int mapSize) {
+        this.pathTiles = new ArrayList<>();
+        this.tilesView = new TilesView();
+        this.setMapSize(mapSize);
+    }
+
+    @Override
+    public int getSize() {
+        return this.mapSize;
+    }
+
+    @Override
+    public java.util.Map<GridPosition, Tile> getTiles() {
+        return this.tilesView;
+    }
+
+    @Override
+    public Tile getTileFromGridPosition(final GridPosition position) {
+        return this.getCell(position.getRow(), position.getColumn());
+    }
+
+    @Override
+    public TileType getTileType(final int row, final int column) {
+        final int index = this.indexOf(row, column);
+        return index < 0 || this.types[index] == NONE ? null : TYPES[this.types[index]];
+    }
+
+    @Override
+    public Optional<Direction> getTileDirection(final int row, final int column) {
+        final int index = this.indexOf(row, column);
+        return index < 0 ? Optional.empty() : this.directionAt(index);
+    }
+
+    @Override
+    public void setTile(final int row, final int column, final TileType type) {
+        final int index = this.checkedIndexOf(row, column);
+        this.types[index] = (byte) type.ordinal();
+        this.directions[index] = NONE;
+    }
+
+    @Override
+    public void setTileDirection(final int row, final int column, final Direction direction) {
+        final int index = this.checkedIndexOf(row, column);
+        if (this.types[index] == NONE) {
+            throw new IllegalStateException("There is no tile in " + new GridPosition(row, column));
+        }
+        this.directions[index] = (byte) direction.ordinal();
+    }
+
+    @Override
+    public GridPosition getStartTile() {
+        return this.startTile;
+    }
+
+    @Override
+    public GridPosition getEndTile() {
+        return this.endTile;
+    }
+
+    @Override
+    public List<GridPosition> getPathTiles() {
+        return this.pathTiles;
+    }
+
+    @Override
+    public Path getPath() {
+        return this.path;
+    }
+
+    @Override
+    public void setPath(final Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public void setMapSize(final int newMapSize) {
+        if (newMapSize < 0) {
+            throw new IllegalArgumentException("Map size cannot be negative");
+        }
+        // Cells are indexed by row and column, so changing the size discards all the tiles.
+        this.mapSize = newMapSize;
+        this.types = new byte[newMapSize * newMapSize];
+        this.directions = new byte[newMapSize * newMapSize];
+        this.cells = new Tile[newMapSize * newMapSize];
+        Arrays.fill(this.types, NONE);
+        Arrays.fill(this.directions, NONE);
+        for (int i = 0; i < this.cells.length; i++) {
+            this.cells[i] = new CellTile(i);
+        }
+    }
+
+    @Override
+    public void setStartTile(final int row, final int column) {
+        this.startTile = new GridPosition(row, column);
+    }
+
+    @Override
+    public void setEndTile(final int row, final int column) {
+        this.endTile = new GridPosition(row, column);
+    }
+
+    // Gives the index of a cell, or -1 if it is outside the grid.
+    private int indexOf(final int row, final int column) {
+        if (row < 0 || column < 0 || row >= this.mapSize || column >= this.mapSize) {
+            return -1;
+        }
+        return row * this.mapSize + column;
+    }
+
+    private int checkedIndexOf(final int row, final int column) {
+        final int index = this.indexOf(row, column);
+        if (index < 0) {
+            throw new IllegalArgumentException(new GridPosition(row, column) + " is outside the map");
+        }
+        return index;
+    }
+
+    // Gives the view of a cell, or null if the cell is outside the grid or has no tile, as a missing key of a java.util.Map would.
+    private Tile getCell(final int row, final int column) {
+        final int index = this.indexOf(row, column);
+        return index < 0 || this.types[index] == NONE ? null : this.cells[index];
+    }
+
+    private Optional<Direction> directionAt(final int index) {
+        return this.directions[index] == NONE ? Optional.empty() : OPTIONAL_DIRECTIONS.get(this.directions[index]);
+    }
+
+    // A tile that reads and writes the arrays of the map.
+    private final class CellTile implements Tile {
+        private final int index;
+
+        CellTile(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public TileType getTileType() {
+            return TYPES[DenseMapImpl.this.types[this.index]];
+        }
+
+        @Override
+        public Optional<Direction> getTileDirection() {
+            return DenseMapImpl.this.directionAt(this.index);
+        }
+
+        @Override
+        public boolean canContainTurret() {
+            return this.getTileType() == TileType.GRASS;
+        }
+
+        @Override
+        public void setDirection(final Direction direction) {
+            DenseMapImpl.this.directions[this.index] = (byte) direction.ordinal();
+        }
+    }
+
+    // Read-only view of the cells with a tile, as a java.util.Map from their grid positions.
+    private final class TilesView extends AbstractMap<GridPosition, Tile> {
+
+        @Override
+        public Tile get(final Object key) {
+            if (!(key instanceof GridPosition)) {
+                return null;
+            }
+            final GridPosition position = (GridPosition) key;
+            return DenseMapImpl.this.getCell(position.getRow(), position.getColumn());
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return this.get(key) != null;
+        }
+
+        @Override
+        public Set<Entry<GridPosition, Tile>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<GridPosition, Tile>> iterator() {
+                    return new Iterator<>() {
+                        private int next = this.skipEmpty(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.next < DenseMapImpl.this.cells.length;
+                        }
+
+                        @Override
+                        public Entry<GridPosition, Tile> next() {
+                            if (!this.hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final int index = this.next;
+                            this.next = this.skipEmpty(index + 1);
+                            final GridPosition position = new GridPosition(index / DenseMapImpl.this.mapSize, index % DenseMapImpl.this.mapSize);
+                            return new SimpleImmutableEntry<>(position, DenseMapImpl.this.cells[index]);
+                        }
+
+                        private int skipEmpty(final int from) {
+                            int index = from;
+                            while (index < DenseMapImpl.this.types.length && DenseMapImpl.this.types[index] == NONE) {
+                                index++;
+                            }
+                            return index;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int count = 0;
+                    for (final byte type : DenseMapImpl.this.types) {
+                        if (type != NONE) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }
+            };
+        }
+    }
+}
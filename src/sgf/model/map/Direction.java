@@ -9,24 +9,28 @@ public enum Direction {
     /**
      * Direction up.
      */
-    UP(0),
+    UP(0, 0, -1),
     /**
      * Direction right.
      */
-    RIGHT(1),
+    RIGHT(1, 1, 0),
     /**
      * Direction down.
      */
-    DOWN(2),
+    DOWN(2, 0, 1),
     /**
      * Direction left.
      */
-    LEFT(3);
+    LEFT(3, -1, 0);
 
     private final int dir;
+    private final int dx;
+    private final int dy;
 
-    Direction(final int dir) {
+    Direction(final int dir, final int dx, final int dy) {
         this.dir = dir;
+        this.dx = dx;
+        this.dy = dy;
     }
 
     private static Direction fromValue(final int dir) {
@@ -42,18 +46,23 @@ public enum Direction {
      * @return The pair of the direction that has to be calculate with the position of the enemy.
      */
     public Pair<Integer, Integer> toUnitVector() {
-        switch (this) {
-        case UP :
-            return Pair.from(0, -1);
-        case RIGHT:
-            return Pair.from(1, 0);
-        case DOWN :
-            return Pair.from(0, 1);
-        case LEFT :
-            return Pair.from(-1, 0);
-        default :
-            throw new IllegalArgumentException("Enemy direction not correct");
-        }
+        return Pair.from(this.dx, this.dy);
+    }
+
+    /**
+     * Horizontal component of the unit vector of the direction, without allocating it.
+     * @return -1, 0 or 1.
+     */
+    public int dx() {
+        return this.dx;
+    }
+
+    /**
+     * Vertical component of the unit vector of the direction, without allocating it.
+     * @return -1, 0 or 1.
+     */
+    public int dy() {
+        return this.dy;
     }
 
     /**
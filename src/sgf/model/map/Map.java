@@ -1,5 +1,8 @@
 package sgf.model.map;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Represents the game map. The map is made as a structure of matrix of tiles.
  */
@@ -23,6 +26,38 @@ public interface Map {
      */
     Tile getTileFromGridPosition(GridPosition position);
 
+    /**
+     * Gives the {@link TileType} of a cell without building any {@link GridPosition}.
+     * @param row Is the row of the tile into the grid.
+     * @param column Is the column of the tile into the grid.
+     * @return the type of the tile, or {@code null} if there is no tile in the given cell.
+     */
+    TileType getTileType(int row, int column);
+
+    /**
+     * Gives the {@link Direction} of movement of a cell without building any {@link GridPosition}.
+     * @param row Is the row of the tile into the grid.
+     * @param column Is the column of the tile into the grid.
+     * @return an {@link Optional} containing the {@link Direction} if present, {@code Optional.empty} otherwise.
+     */
+    Optional<Direction> getTileDirection(int row, int column);
+
+    /**
+     * Places a tile of the given type in a cell of the grid.
+     * @param row Is the row of the tile into the grid.
+     * @param column Is the column of the tile into the grid.
+     * @param type Is the type of the tile.
+     */
+    void setTile(int row, int column, TileType type);
+
+    /**
+     * Sets the {@link Direction} of movement of the tile in a cell of the grid.
+     * @param row Is the row of the tile into the grid.
+     * @param column Is the column of the tile into the grid.
+     * @param direction Is the direction that the tile must have.
+     */
+    void setTileDirection(int row, int column, Direction direction);
+
     /**
      * The map has e reference to the tile from which the enemies movement start.
      * @return the GridPosition of the tile from which starts the enemies movement.
@@ -35,6 +70,25 @@ public interface Map {
      */
     GridPosition getEndTile();
 
+    /**
+     * The map keeps the tiles of the path in the order they are walked by the enemies, from the start tile to the end tile.
+     * This method returns them.
+     * @return the field that contains the ordered tiles of the path.
+     */
+    List<GridPosition> getPathTiles();
+
+    /**
+     * The map keeps the {@link Path} walked by the enemies, compiled from the path tiles once the map has been loaded.
+     * @return the path of the enemies.
+     */
+    Path getPath();
+
+    /**
+     * Standard setter for the {@link Path} walked by the enemies.
+     * @param path Is the compiled path.
+     */
+    void setPath(Path path);
+
     /**
      * Standard setter for the field that represents the tile from which the enemies star to move.
      * @param row Is the row of the tile into the grid.
@@ -50,7 +104,7 @@ public interface Map {
     void setEndTile(int row, int column);
 
     /**
-     * This method sets up the map size.
+     * This method sets up the map size. Depending on the implementation, tiles already placed may be discarded.
      * @param newMapSize Is the new size that the map must have.
      */
     void setMapSize(int newMapSize);
@@ -1,6 +1,9 @@
 package sgf.model.map;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * This class represents a simple map logic with its grid structure.
@@ -11,12 +14,15 @@ public class MapImpl implements Map {
     // Tiles useful to create enemies.
     private GridPosition startTile;
     private GridPosition endTile;
+    private final List<GridPosition> pathTiles;     // Tiles of the path, in the order they are walked.
+    private Path path;      // Polyline through the path tiles.
 
     /**
      * Simple constructor.
      */
     public MapImpl() {
         this.tiles = new HashMap<>();
+        this.pathTiles = new ArrayList<>();
     }
 
     @Override
@@ -34,6 +40,28 @@ public class MapImpl implements Map {
         return this.tiles.get(position);
     }
 
+    @Override
+    public TileType getTileType(final int row, final int column) {
+        final Tile tile = this.tiles.get(new GridPosition(row, column));
+        return tile == null ? null : tile.getTileType();
+    }
+
+    @Override
+    public Optional<Direction> getTileDirection(final int row, final int column) {
+        final Tile tile = this.tiles.get(new GridPosition(row, column));
+        return tile == null ? Optional.empty() : tile.getTileDirection();
+    }
+
+    @Override
+    public void setTile(final int row, final int column, final TileType type) {
+        this.tiles.put(new GridPosition(row, column), new TileImpl(type));
+    }
+
+    @Override
+    public void setTileDirection(final int row, final int column, final Direction direction) {
+        this.tiles.get(new GridPosition(row, column)).setDirection(direction);
+    }
+
     @Override
     public GridPosition getStartTile() {
         return this.startTile;
@@ -44,6 +72,21 @@ public class MapImpl implements Map {
         return this.endTile;
     }
 
+    @Override
+    public List<GridPosition> getPathTiles() {
+        return this.pathTiles;
+    }
+
+    @Override
+    public Path getPath() {
+        return this.path;
+    }
+
+    @Override
+    public void setPath(final Path path) {
+        this.path = path;
+    }
+
     @Override
     public void setMapSize(final int newMapSize) {
         this.mapSize = newMapSize;
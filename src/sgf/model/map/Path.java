@@ -0,0 +1,51 @@
+package sgf.model.map;
+
+/**
+ * The path walked by the enemies, as a polyline parameterized by the distance travelled along it.
+ * A point of the path is found from its distance in constant time, so the distance alone describes where an enemy is.
+ */
+public interface Path {
+
+    /**
+     * Returns the total length of the path, from its start to the point where the enemies leave the map.
+     * @return the length of the path in pixels
+     */
+    double getLength();
+
+    /**
+     * Finds the point of the path at a given distance from its start.
+     * Distances outside the path are clamped to its ends.
+     * @param distance the distance along the path
+     * @param out the {@link Position} that receives the point, so that no position is allocated
+     * @return the given position
+     */
+    Position getPositionAt(double distance, Position out);
+
+    /**
+     * Finds the point of the path at a given distance from its start.
+     * Distances outside the path are clamped to its ends.
+     * @param distance the distance along the path
+     * @return a new {@link Position} of the point
+     */
+    Position getPositionAt(double distance);
+
+    /**
+     * Returns the number of points of the polyline, the ends of the path included.
+     * @return the number of points
+     */
+    int getPointsCount();
+
+    /**
+     * Returns a point of the polyline.
+     * @param index the index of the point, in order along the path
+     * @return a copy of the point
+     */
+    Position getPoint(int index);
+
+    /**
+     * Returns the distance from the start of the path of a point of the polyline.
+     * @param index the index of the point, in order along the path
+     * @return the distance of the point
+     */
+    double getDistanceAt(int index);
+}
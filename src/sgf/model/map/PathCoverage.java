@@ -0,0 +1,103 @@
+package sgf.model.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The stretches of a {@link Path} that are within a given range from a point, measured as distance along the path.
+ * Since the path never changes, they can be computed once for every turret.
+ */
+public class PathCoverage {
+    private final double[] starts;  // Starts of the covered stretches, in increasing order.
+    private final double[] ends;    // Ends of the covered stretches.
+
+    /**
+     * Computes the stretches of the path within the range.
+     * @param path the {@link Path} of the enemies
+     * @param center the point the range is measured from
+     * @param range the range
+     */
+    public PathCoverage(final Path path, final Position center, final double range) {
+        final List<Double> foundStarts = new ArrayList<>();
+        final List<Double> foundEnds = new ArrayList<>();
+        for (int i = 1; i < path.getPointsCount(); i++) {
+            final Position from = path.getPoint(i - 1);
+            final Position to = path.getPoint(i);
+            final double walked = path.getDistanceAt(i - 1);  // Distance along the path of the start of the segment.
+            final double length = path.getDistanceAt(i) - walked;
+            final double dirX = (to.getX() - from.getX()) / length;
+            final double dirY = (to.getY() - from.getY()) / length;
+            final double offX = from.getX() - center.getX();
+            final double offY = from.getY() - center.getY();
+            // The segment is inside the circle where s^2 + 2bs + c <= 0, s being the distance from its start.
+            final double b = dirX * offX + dirY * offY;
+            final double c = offX * offX + offY * offY - range * range;
+            final double discriminant = b * b - c;
+            if (discriminant >= 0) {
+                final double root = Math.sqrt(discriminant);
+                final double start = Math.max(0, -b - root);
+                final double end = Math.min(length, -b + root);
+                if (start <= end) {
+                    final int last = foundEnds.size() - 1;
+                    if (last >= 0 && foundEnds.get(last) >= walked + start) {
+                        foundEnds.set(last, walked + end);      // The stretch continues the one of the previous segment.
+                    } else {
+                        foundStarts.add(walked + start);
+                        foundEnds.add(walked + end);
+                    }
+                }
+            }
+        }
+        this.starts = foundStarts.stream().mapToDouble(Double::doubleValue).toArray();
+        this.ends = foundEnds.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Checks whether a point of the path is within range.
+     * @param progress the distance of the point along the path
+     * @return {@code true} if the point is within range, {@code false} otherwise
+     */
+    public boolean covers(final double progress) {
+        final int index = Arrays.binarySearch(this.starts, progress);
+        if (index >= 0) {
+            return true;
+        }
+        final int before = -index - 2;  // Last stretch starting before the point.
+        return before >= 0 && progress <= this.ends[before];
+    }
+
+    /**
+     * Returns the number of separate stretches of the path within range.
+     * @return the number of stretches
+     */
+    public int getStretchesCount() {
+        return this.starts.length;
+    }
+
+    /**
+     * Returns the distance along the path where a stretch within range starts.
+     * @param stretch the index of the stretch, in order along the path
+     * @return the start of the stretch
+     */
+    public double getStart(final int stretch) {
+        return this.starts[stretch];
+    }
+
+    /**
+     * Returns the distance along the path where a stretch within range ends.
+     * @param stretch the index of the stretch, in order along the path
+     * @return the end of the stretch
+     */
+    public double getEnd(final int stretch) {
+        return this.ends[stretch];
+    }
+
+    /**
+     * Checks whether no point of the path is within range.
+     * @return {@code true} if the path is out of range, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return this.starts.length == 0;
+    }
+}
@@ -0,0 +1,116 @@
+package sgf.model.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of {@link Path} that keeps the points of the polyline with their cumulative distances.
+ * The distance is split in buckets as long as the shortest segment, each knowing the segment its start falls in:
+ * a point is then found with a bucket lookup and at most one step forward, whatever the number of segments.
+ */
+public class PathImpl implements Path {
+    private final double[] xs;          // Coordinates of the points.
+    private final double[] ys;
+    private final double[] distances;   // Distance of every point from the start of the path.
+    private final double bucketLength;
+    private final int[] firstSegments;  // Segment where every bucket starts.
+
+    /**
+     * Creates a path through the given points. Consecutive points on the same line are merged into a single segment.
+     * @param points the points of the path, in the order they are walked
+     */
+    public PathImpl(final List<Position> points) {
+        final List<Position> corners = new ArrayList<>();
+        for (final Position point : points) {
+            final int last = corners.size() - 1;
+            if (last >= 0 && corners.get(last).equals(point)) {
+                continue;   // Points repeated in a row would make an empty segment.
+            }
+            if (last >= 1 && isCollinear(corners.get(last - 1), corners.get(last), point)) {
+                corners.set(last, point);
+            } else {
+                corners.add(point);
+            }
+        }
+        if (corners.size() < 2) {
+            throw new IllegalArgumentException("A path needs at least two distinct points");
+        }
+        this.xs = new double[corners.size()];
+        this.ys = new double[corners.size()];
+        this.distances = new double[corners.size()];
+        double shortest = Double.MAX_VALUE;
+        for (int i = 0; i < corners.size(); i++) {
+            this.xs[i] = corners.get(i).getX();
+            this.ys[i] = corners.get(i).getY();
+            if (i > 0) {
+                final double length = corners.get(i - 1).distanceTo(corners.get(i));
+                this.distances[i] = this.distances[i - 1] + length;
+                shortest = Math.min(shortest, length);
+            }
+        }
+        this.bucketLength = shortest;
+        this.firstSegments = new int[(int) (this.getLength() / this.bucketLength) + 1];
+        int segment = 0;
+        for (int bucket = 0; bucket < this.firstSegments.length; bucket++) {
+            while (segment < this.distances.length - 2 && this.distances[segment + 1] <= bucket * this.bucketLength) {
+                segment++;
+            }
+            this.firstSegments[bucket] = segment;
+        }
+    }
+
+    // Checks whether b lies on the line from a to c, going on in the same direction.
+    private static boolean isCollinear(final Position a, final Position b, final Position c) {
+        final double abX = b.getX() - a.getX();
+        final double abY = b.getY() - a.getY();
+        final double bcX = c.getX() - b.getX();
+        final double bcY = c.getY() - b.getY();
+        return abX * bcY - abY * bcX == 0 && abX * bcX + abY * bcY > 0;
+    }
+
+    @Override
+    public double getLength() {
+        return this.distances[this.distances.length - 1];
+    }
+
+    @Override
+    public Position getPositionAt(final double distance, final Position out) {
+        if (distance <= 0) {
+            out.setCoordinates(this.xs[0], this.ys[0]);
+            return out;
+        }
+        final int last = this.distances.length - 1;
+        if (distance >= this.distances[last]) {
+            out.setCoordinates(this.xs[last], this.ys[last]);
+            return out;
+        }
+        int segment = this.firstSegments[(int) (distance / this.bucketLength)];
+        while (this.distances[segment + 1] <= distance) {
+            segment++;      // No segment is shorter than a bucket, so this takes one step at most.
+        }
+        final double t = (distance - this.distances[segment]) / (this.distances[segment + 1] - this.distances[segment]);
+        out.setCoordinates(this.xs[segment] + (this.xs[segment + 1] - this.xs[segment]) * t,
+                this.ys[segment] + (this.ys[segment + 1] - this.ys[segment]) * t);
+        return out;
+    }
+
+    @Override
+    public Position getPositionAt(final double distance) {
+        return this.getPositionAt(distance, new Position(0, 0));
+    }
+
+    @Override
+    public int getPointsCount() {
+        return this.distances.length;
+    }
+
+    @Override
+    public Position getPoint(final int index) {
+        return new Position(this.xs[index], this.ys[index]);
+    }
+
+    @Override
+    public double getDistanceAt(final int index) {
+        return this.distances[index];
+    }
+}
@@ -78,7 +78,28 @@ public class Position {
      * @return the distance
      */
     public double distanceTo(final Position pos) {
-        return Math.sqrt(Math.pow(pos.getX() - this.getX(), 2) + Math.pow(pos.getY() - this.getY(), 2));
+        return Math.sqrt(this.squaredDistanceTo(pos));
+    }
+
+    /**
+     * Calculates the squared distance from another position, which is enough to compare distances without a square root.
+     * @param pos the other position
+     * @return the squared distance
+     */
+    public double squaredDistanceTo(final Position pos) {
+        final double dx = pos.x - this.x;
+        final double dy = pos.y - this.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Checks whether another position is within a given distance.
+     * @param pos the other position
+     * @param distance the distance
+     * @return {@code true} if the other position is not farther than the distance, {@code false} otherwise
+     */
+    public boolean isWithin(final Position pos, final double distance) {
+        return this.squaredDistanceTo(pos) <= distance * distance;
     }
 
     /**
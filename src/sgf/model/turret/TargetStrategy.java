@@ -0,0 +1,31 @@
+package sgf.model.turret;
+
+/**
+ * Enumeration of the rules a {@link Turret} can follow to choose its target among the enemies in range.
+ */
+public enum TargetStrategy {
+    /**
+     * The enemy furthest along the path.
+     */
+    FIRST,
+
+    /**
+     * The enemy least far along the path.
+     */
+    LAST,
+
+    /**
+     * The enemy with the most HP.
+     */
+    STRONGEST,
+
+    /**
+     * The enemy with the least HP.
+     */
+    WEAKEST,
+
+    /**
+     * The enemy closest to the turret.
+     */
+    CLOSEST
+}
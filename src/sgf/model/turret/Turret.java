@@ -2,6 +2,7 @@ package sgf.model.turret;
 
 import java.util.Optional;
 import sgf.model.bullet.Bullet;
+import sgf.model.bullet.BulletFactory;
 import sgf.model.enemies.Enemy;
 import sgf.model.map.Position;
 
@@ -65,6 +66,12 @@ public interface Turret {
      */
     Bullet createBullet();
 
+    /**
+     * Sets the {@link BulletFactory} used to create the bullets of the turret.
+     * @param factory the factory
+     */
+    void setBulletFactory(BulletFactory factory);
+
     /**
      * Returns the speed at which the turret fires bullets (specified in bullets/second).
      * @return the fire rate of the turret
@@ -83,6 +90,18 @@ public interface Turret {
      */
     void setTarget(Enemy target);
 
+    /**
+     * Returns the rule followed by the turret to choose its target.
+     * @return the {@link TargetStrategy} of the turret
+     */
+    TargetStrategy getTargetStrategy();
+
+    /**
+     * Sets the rule followed by the turret to choose its target.
+     * @param strategy the {@link TargetStrategy}
+     */
+    void setTargetStrategy(TargetStrategy strategy);
+
     /**
      * Returns the price of the turret.
      * @return the price of the turret
@@ -19,11 +19,13 @@ public class TurretImpl implements Turret, Cloneable {
     private final double bulletDamage;
     private final int id;
     private final int price;
-    private final BulletFactory bulletFactory;
+    private BulletFactory bulletFactory;
     private boolean state;
     private double angle;
     private Position position;
     private Enemy target;
+    private Optional<Enemy> optionalTarget = Optional.empty();     // Returned by getTarget(), created only when the target changes.
+    private TargetStrategy targetStrategy = TargetStrategy.FIRST;
 
     /**
      * Creates a new instance of Turret.
@@ -82,6 +84,14 @@ public class TurretImpl implements Turret, Cloneable {
         return this.bulletFactory.createBullet(this.id, this.bulletSpeed, this.position, this.bulletDamage, this.target);
     }
 
+    @Override
+    public void setBulletFactory(final BulletFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Cannot pass null as value for the parameter factory.");
+        }
+        this.bulletFactory = factory;
+    }
+
     @Override
     public double getFireRate() {
         return this.fireRate;
@@ -89,7 +99,7 @@ public class TurretImpl implements Turret, Cloneable {
 
     @Override
     public Optional<Enemy> getTarget() {
-        return Optional.ofNullable(this.target);
+        return this.optionalTarget;
     }
 
     @Override
@@ -102,6 +112,19 @@ public class TurretImpl implements Turret, Cloneable {
         return (TurretImpl) super.clone();
     }
 
+    @Override
+    public TargetStrategy getTargetStrategy() {
+        return this.targetStrategy;
+    }
+
+    @Override
+    public void setTargetStrategy(final TargetStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Cannot pass null as value for the parameter strategy.");
+        }
+        this.targetStrategy = strategy;
+    }
+
     @Override
     public Turret getClone() {
         try {
@@ -124,6 +147,9 @@ public class TurretImpl implements Turret, Cloneable {
 
     @Override
     public void setTarget(final Enemy target) {
+        if (target != this.target) {
+            this.optionalTarget = Optional.ofNullable(target);
+        }
         this.target = target;
     }
 
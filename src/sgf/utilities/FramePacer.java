@@ -0,0 +1,161 @@
+package sgf.utilities;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces a rendering loop at a target number of frames per second, and measures the frames it paces.
+ * The time spent drawing a frame is subtracted from the wait before the next one, so frames start at a steady rate; a frame that
+ * takes too long is not made up by drawing the next ones in a burst.
+ * The target is chosen through the {@code sgf.fps} system property, whose default value is 60; 0 draws frames as fast as possible.
+ * Frames are measured by the thread that paces them, but the measures can be read by any thread. Besides the totals since the
+ * pacer was created, the times of the latest frames are kept in a {@link RollingStats} window, which follows the frame rate of now.
+ */
+public class FramePacer {
+    /**
+     * Name of the system property used to choose the target frames per second.
+     */
+    public static final String PROPERTY = "sgf.fps";
+    /**
+     * Target frames per second used when the property is not set.
+     */
+    public static final int DEFAULT_FPS = 60;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long SPIN_NANOS = TimeUnit.MILLISECONDS.toNanos(1);    // Waited yielding, as sleeping is not as accurate.
+    private static final int MEASURED_FRAMES = 240;    // Number of frames the frame times are kept for.
+    private final long period;      // Nanoseconds between the start of two frames, 0 if uncapped.
+    private final RollingStats frameTimes = new RollingStats(MEASURED_FRAMES);
+    private long frameStart = -1;
+    private long nextFrame;
+    private volatile long frames;
+    private volatile long lastFrameTime;
+    private volatile long lastWorkTime;
+    private volatile long totalFrameTime;
+    private volatile long maxFrameTime;
+
+    /**
+     * Creates a pacer.
+     * @param fps the target frames per second, or 0 to draw frames as fast as possible
+     */
+    public FramePacer(final int fps) {
+        if (fps < 0) {
+            throw new IllegalArgumentException("The frames per second cannot be negative");
+        }
+        this.period = fps == 0 ? 0 : NANOS_PER_SECOND / fps;
+    }
+
+    /**
+     * Creates a pacer with the target chosen through the {@code sgf.fps} system property.
+     * @return the created {@link FramePacer}
+     */
+    public static FramePacer fromProperty() {
+        final int fps = Integer.getInteger(PROPERTY, DEFAULT_FPS);
+        if (fps < 0) {
+            System.err.println("Invalid value for " + PROPERTY + ": " + fps + ", " + DEFAULT_FPS + " fps will be used");
+            return new FramePacer(DEFAULT_FPS);
+        }
+        return new FramePacer(fps);
+    }
+
+    /**
+     * Ends the frame that has just been drawn, waiting until the next one is due. The first call only starts timing.
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void awaitNextFrame() throws InterruptedException {
+        long now = System.nanoTime();
+        if (this.frameStart < 0) {
+            this.frameStart = now;
+            this.nextFrame = now;
+            return;
+        }
+        this.lastWorkTime = now - this.frameStart;
+        if (this.period > 0) {
+            this.nextFrame += this.period;
+            if (this.nextFrame < now) {
+                this.nextFrame = now;   // Late: the next frame starts now instead of catching up.
+            }
+            long remaining = this.nextFrame - now;
+            if (remaining > SPIN_NANOS) {
+                TimeUnit.NANOSECONDS.sleep(remaining - SPIN_NANOS);
+            }
+            while (this.nextFrame - System.nanoTime() > 0) {
+                Thread.yield();
+            }
+            now = System.nanoTime();
+        }
+        this.record(now - this.frameStart);
+        this.frameStart = now;
+    }
+
+    private void record(final long frameTime) {
+        this.frames++;      // Only the pacing thread writes the measures.
+        this.lastFrameTime = frameTime;
+        this.totalFrameTime += frameTime;
+        this.maxFrameTime = Math.max(this.maxFrameTime, frameTime);
+        this.frameTimes.add(frameTime);
+    }
+
+    /**
+     * Gives the target frames per second.
+     * @return the target, or 0 if frames are drawn as fast as possible
+     */
+    public int getTargetFps() {
+        return this.period == 0 ? 0 : (int) Math.round((double) NANOS_PER_SECOND / this.period);
+    }
+
+    /**
+     * Gives the number of frames measured.
+     * @return the number of frames
+     */
+    public long getFrames() {
+        return this.frames;
+    }
+
+    /**
+     * Gives the time between the start of the last frame and the start of the next one.
+     * @return the last frame time in nanoseconds
+     */
+    public long getLastFrameTime() {
+        return this.lastFrameTime;
+    }
+
+    /**
+     * Gives the time spent drawing the last frame, before waiting for the next one.
+     * @return the last drawing time in nanoseconds
+     */
+    public long getLastWorkTime() {
+        return this.lastWorkTime;
+    }
+
+    /**
+     * Gives the times of the latest frames, from the start of a frame to the start of the next one.
+     * @return the {@link RollingStats} of the frame times, in nanoseconds
+     */
+    public RollingStats getFrameTimes() {
+        return this.frameTimes;
+    }
+
+    /**
+     * Gives the average time of the frames measured.
+     * @return the average frame time in nanoseconds, or 0 if no frame has been measured
+     */
+    public double getAverageFrameTime() {
+        final long count = this.frames;     // Read once, as the pacing thread may count a frame meanwhile.
+        return count == 0 ? 0 : (double) this.totalFrameTime / count;
+    }
+
+    /**
+     * Gives the longest time of the frames measured.
+     * @return the maximum frame time in nanoseconds
+     */
+    public long getMaxFrameTime() {
+        return this.maxFrameTime;
+    }
+
+    @Override
+    public String toString() {
+        final double average = this.getAverageFrameTime();
+        return String.format("FramePacer [target=%d fps, frames=%d, average=%.2f ms (%.1f fps), max=%.2f ms]",
+                this.getTargetFps(), this.getFrames(), average / TimeUnit.MILLISECONDS.toNanos(1),
+                average == 0 ? 0 : NANOS_PER_SECOND / average, (double) this.maxFrameTime / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
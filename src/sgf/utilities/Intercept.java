@@ -0,0 +1,77 @@
+package sgf.utilities;
+
+import sgf.model.map.Path;
+import sgf.model.map.Position;
+
+/**
+ * Utility class that finds when a projectile fired in a straight line can meet a target walking a {@link Path}.
+ * Both move at constant speed, so on every segment of the path the meeting time is the root of a quadratic equation.
+ */
+public final class Intercept {
+    private static final double EPSILON = 1e-12;
+
+    private Intercept() {
+    }
+
+    /**
+     * Finds the earliest time at which a projectile can reach a target walking a path.
+     * @param path the {@link Path} walked by the target
+     * @param progress the distance travelled by the target along the path
+     * @param targetStep the distance travelled by the target in a unit of time
+     * @param origin the point the projectile is fired from
+     * @param projectileStep the distance travelled by the projectile in a unit of time
+     * @return the time to the meeting, or {@link Double#NaN} if the target leaves the path before it can be reached
+     */
+    public static double timeToIntercept(final Path path, final double progress, final double targetStep,
+            final Position origin, final double projectileStep) {
+        if (targetStep <= 0) {      // The target stands still.
+            return path.getPositionAt(progress).distanceTo(origin) / projectileStep;
+        }
+        // With the target at A + B * t, the meeting is where |A + B * t|^2 = (projectileStep * t)^2.
+        final double a = targetStep * targetStep - projectileStep * projectileStep;
+        for (int i = 1; i < path.getPointsCount(); i++) {
+            final double segmentStart = path.getDistanceAt(i - 1);
+            final double segmentEnd = path.getDistanceAt(i);
+            if (segmentEnd <= progress) {
+                continue;   // Already walked.
+            }
+            final Position from = path.getPoint(i - 1);
+            final Position to = path.getPoint(i);
+            final double length = segmentEnd - segmentStart;
+            final double dirX = (to.getX() - from.getX()) / length;
+            final double dirY = (to.getY() - from.getY()) / length;
+            final double ax = from.getX() + dirX * (progress - segmentStart) - origin.getX();
+            final double ay = from.getY() + dirY * (progress - segmentStart) - origin.getY();
+            final double halfB = (ax * dirX + ay * dirY) * targetStep;
+            final double c = ax * ax + ay * ay;
+            final double time = firstRoot(a, halfB, c, Math.max(0, (segmentStart - progress) / targetStep), (segmentEnd - progress) / targetStep);
+            if (!Double.isNaN(time)) {
+                return time;
+            }
+        }
+        return Double.NaN;
+    }
+
+    // Smallest root of a * t^2 + 2 * halfB * t + c in [from, to], or NaN if there is none.
+    private static double firstRoot(final double a, final double halfB, final double c, final double from, final double to) {
+        if (Math.abs(a) < EPSILON) {    // Same speeds: the equation is linear.
+            if (Math.abs(halfB) < EPSILON) {
+                return c == 0 ? from : Double.NaN;
+            }
+            return inRange(-c / (2 * halfB), from, to);
+        }
+        final double discriminant = halfB * halfB - a * c;
+        if (discriminant < 0) {
+            return Double.NaN;
+        }
+        final double root = Math.sqrt(discriminant);
+        final double first = (-halfB - root) / a;
+        final double second = (-halfB + root) / a;
+        final double low = inRange(Math.min(first, second), from, to);
+        return Double.isNaN(low) ? inRange(Math.max(first, second), from, to) : low;
+    }
+
+    private static double inRange(final double t, final double from, final double to) {
+        return t >= from && t <= to ? t : Double.NaN;
+    }
+}
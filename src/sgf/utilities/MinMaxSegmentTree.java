@@ -0,0 +1,115 @@
+package sgf.utilities;
+
+import java.util.Arrays;
+
+/**
+ * Segment tree over a sequence of values that finds the position of the maximum and of the minimum of any range
+ * in logarithmic time. Values equal to {@link Double#NaN} are excluded from the queries.
+ */
+public class MinMaxSegmentTree {
+    private static final int NONE = -1;
+    private double[] values = new double[0];
+    private int[] maxTree = new int[0];   // Every node holds the position of the maximum of its range, leaves start at size.
+    private int[] minTree = new int[0];   // Same for the minimum.
+    private int size;
+
+    /**
+     * Rebuilds the tree over new values, in linear time.
+     * @param newValues the values, which are copied
+     * @param newSize the number of values to use, starting from the first one
+     */
+    public void build(final double[] newValues, final int newSize) {
+        if (newSize < 0 || newSize > newValues.length) {
+            throw new IllegalArgumentException("Size out of bounds: " + newSize);
+        }
+        if (this.values.length < newSize) {
+            this.values = new double[newSize];
+            this.maxTree = new int[2 * newSize];
+            this.minTree = new int[2 * newSize];
+        }
+        this.size = newSize;
+        System.arraycopy(newValues, 0, this.values, 0, newSize);
+        for (int i = 0; i < newSize; i++) {
+            final int leaf = Double.isNaN(newValues[i]) ? NONE : i;
+            this.maxTree[newSize + i] = leaf;
+            this.minTree[newSize + i] = leaf;
+        }
+        for (int node = newSize - 1; node > 0; node--) {
+            this.maxTree[node] = this.max(this.maxTree[2 * node], this.maxTree[2 * node + 1]);
+            this.minTree[node] = this.min(this.minTree[2 * node], this.minTree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Finds the position of the maximum value in a range.
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, exclusive
+     * @return the position of the maximum, or -1 if the range has no values
+     */
+    public int indexOfMax(final int from, final int to) {
+        this.checkRange(from, to);
+        int result = NONE;
+        for (int left = from + this.size, right = to + this.size; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1) {
+                result = this.max(result, this.maxTree[left++]);
+            }
+            if ((right & 1) == 1) {
+                result = this.max(result, this.maxTree[--right]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the position of the minimum value in a range.
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, exclusive
+     * @return the position of the minimum, or -1 if the range has no values
+     */
+    public int indexOfMin(final int from, final int to) {
+        this.checkRange(from, to);
+        int result = NONE;
+        for (int left = from + this.size, right = to + this.size; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1) {
+                result = this.min(result, this.minTree[left++]);
+            }
+            if ((right & 1) == 1) {
+                result = this.min(result, this.minTree[--right]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     * @return the number of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void checkRange(final int from, final int to) {
+        if (from < 0 || to > this.size || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for size " + this.size);
+        }
+    }
+
+    private int max(final int first, final int second) {
+        if (first == NONE || second != NONE && this.values[second] > this.values[first]) {
+            return second;
+        }
+        return first;
+    }
+
+    private int min(final int first, final int second) {
+        if (first == NONE || second != NONE && this.values[second] < this.values[first]) {
+            return second;
+        }
+        return first;
+    }
+
+    @Override
+    public String toString() {
+        return "MinMaxSegmentTree " + Arrays.toString(Arrays.copyOf(this.values, this.size));
+    }
+}
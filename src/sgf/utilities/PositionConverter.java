@@ -34,4 +34,15 @@ public class PositionConverter {
     public GridPosition convertToGridPosition(final Position position) {
         return new GridPosition((int) position.getY() / tileSize, (int) position.getX() / tileSize);
     }
+
+    /**
+     * Converts a {@link Position} to a {@link GridPosition}, storing the result in an existing instance instead of allocating one.
+     * @param position the position to convert
+     * @param out the grid position that receives the result
+     * @return the given grid position
+     */
+    public GridPosition convertToGridPosition(final Position position, final GridPosition out) {
+        out.setCoordinates((int) position.getY() / tileSize, (int) position.getX() / tileSize);
+        return out;
+    }
 }
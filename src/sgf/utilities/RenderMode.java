@@ -0,0 +1,43 @@
+package sgf.utilities;
+
+import java.util.Locale;
+
+/**
+ * Enumeration of the ways the game can be drawn on screen.
+ * The mode is chosen through the {@code sgf.render} system property, whose value can be {@code passive} (default) or {@code active}.
+ */
+public enum RenderMode {
+    /**
+     * Frames are composed on the event dispatch thread and shown through Swing repaint requests, which Swing can merge or delay.
+     */
+    PASSIVE,
+
+    /**
+     * Frames are composed and shown by the rendering thread itself on a {@link java.awt.Canvas}, flipping its
+     * {@link java.awt.image.BufferStrategy}, so every frame is shown when it is drawn.
+     */
+    ACTIVE;
+
+    /**
+     * Name of the system property used to choose the mode.
+     */
+    public static final String PROPERTY = "sgf.render";
+    private static final RenderMode CURRENT = fromName(System.getProperty(PROPERTY, PASSIVE.name()));
+
+    /**
+     * Returns the mode chosen through the {@code sgf.render} system property.
+     * @return the current mode
+     */
+    public static RenderMode current() {
+        return CURRENT;
+    }
+
+    private static RenderMode fromName(final String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown value for " + PROPERTY + ": " + name + ", passive rendering will be used");
+            return PASSIVE;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package sgf.utilities;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the latest samples of a measure in a fixed window, overwriting the oldest one when the window is full.
+ * Recording a sample allocates nothing and takes constant time, so measures can be recorded all the time; percentiles are only
+ * computed when they are read, sorting a copy of the window.
+ * Samples can be recorded and read by different threads.
+ */
+public class RollingStats {
+    private final long[] samples;
+    private final long[] sorted;    // Reused to compute the percentiles.
+    private int next;               // Index the next sample is written at.
+    private int count;
+    private long total;
+
+    /**
+     * Creates an empty window.
+     * @param size the number of samples kept
+     */
+    public RollingStats(final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The window must hold at least a sample");
+        }
+        this.samples = new long[size];
+        this.sorted = new long[size];
+    }
+
+    /**
+     * Records a sample, forgetting the oldest one if the window is full.
+     * @param sample the sample
+     */
+    public synchronized void add(final long sample) {
+        if (this.count == this.samples.length) {
+            this.total -= this.samples[this.next];
+        } else {
+            this.count++;
+        }
+        this.samples[this.next] = sample;
+        this.total += sample;
+        this.next = (this.next + 1) % this.samples.length;
+    }
+
+    /**
+     * Gives the number of samples in the window.
+     * @return the number of samples
+     */
+    public synchronized int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gives the average of the samples in the window.
+     * @return the average, or 0 if there are no samples
+     */
+    public synchronized double getAverage() {
+        return this.count == 0 ? 0 : (double) this.total / this.count;
+    }
+
+    /**
+     * Gives the sample below which the given fraction of the samples in the window falls.
+     * @param fraction the fraction, from 0 to 1: 0.5 gives the median
+     * @return the percentile, or 0 if there are no samples
+     */
+    public synchronized long getPercentile(final double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("The fraction must be between 0 and 1");
+        }
+        if (this.count == 0) {
+            return 0;
+        }
+        System.arraycopy(this.samples, 0, this.sorted, 0, this.count);
+        Arrays.sort(this.sorted, 0, this.count);
+        return this.sorted[Math.max(0, (int) Math.ceil(fraction * this.count) - 1)];     // Nearest rank.
+    }
+}
@@ -0,0 +1,73 @@
+package sgf.utilities;
+
+import java.util.function.Consumer;
+import sgf.model.map.GridPosition;
+import sgf.model.map.Position;
+
+/**
+ * Uniform grid that buckets elements by the map cell they are in, so that only the elements near a point are looked up.
+ * It is not thread safe: it is meant to be used by the {@link sgf.managers.GameLoop} thread only.
+ * @param <T> the type of the elements
+ */
+public interface SpatialGrid<T> {
+
+    /**
+     * Returns the cell a {@link Position} falls in.
+     * @param position the position
+     * @return the cell containing the position
+     */
+    GridPosition getCell(Position position);
+
+    /**
+     * Finds the cell a {@link Position} falls in, storing it in an existing instance instead of allocating one.
+     * @param position the position
+     * @param out the grid position that receives the cell
+     * @return the given grid position
+     */
+    GridPosition getCell(Position position, GridPosition out);
+
+    /**
+     * Checks whether a {@link Position} falls in the given cell.
+     * @param cell the cell
+     * @param position the position
+     * @return {@code true} if the position is inside the cell, {@code false} otherwise
+     */
+    boolean isInside(GridPosition cell, Position position);
+
+    /**
+     * Adds an element to a cell. The cell is copied if needed, so it can be reused by the caller.
+     * @param element the element to add
+     * @param cell the cell the element is in
+     */
+    void add(T element, GridPosition cell);
+
+    /**
+     * Moves an element from a cell to another.
+     * @param element the element to move
+     * @param from the cell the element was in
+     * @param to the cell the element is now in
+     */
+    void move(T element, GridPosition from, GridPosition to);
+
+    /**
+     * Removes an element from a cell.
+     * @param element the element to remove
+     * @param cell the cell the element is in
+     */
+    void remove(T element, GridPosition cell);
+
+    /**
+     * Runs an action on the elements of all the cells overlapped by a circle. The elements may still be farther
+     * than the radius from the center, so the caller has to check their actual distance.
+     * @param center the center of the circle
+     * @param radius the radius of the circle
+     * @param action the action to run
+     */
+    void forEachInRange(Position center, double radius, Consumer<? super T> action);
+
+    /**
+     * Returns the number of elements in the grid.
+     * @return the number of elements
+     */
+    int size();
+}
@@ -0,0 +1,134 @@
+package sgf.utilities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import sgf.model.map.GridPosition;
+import sgf.model.map.Position;
+
+/**
+ * Implementation of {@link SpatialGrid} that keeps a list of elements for every cell of the map, in an array indexed by row and
+ * column. Lists are created with the grid and never dropped, so elements moving from a cell to another allocate nothing.
+ * Cells outside the map, which elements should seldom reach, are kept in a map and their lists are never dropped either.
+ * @param <T> the type of the elements
+ */
+public class SpatialGridImpl<T> implements SpatialGrid<T> {
+    private final int cellSize;
+    private final int gridSize;         // Number of cells of a side of the map.
+    private final List<List<T>> cells;  // Lists of the cells of the map, at index row * gridSize + column.
+    private final Map<GridPosition, List<T>> outside = new HashMap<>();    // Lists of the cells outside the map.
+    private final GridPosition lookup = new GridPosition(0, 0);   // Reused as key when looking up cells, to avoid allocations.
+    private int size;
+
+    /**
+     * Creates an empty grid.
+     * @param cellSize the size of a cell, usually the size of a tile
+     * @param gridSize the number of cells of a side of the map
+     */
+    public SpatialGridImpl(final int cellSize, final int gridSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        if (gridSize < 0) {
+            throw new IllegalArgumentException("Grid size cannot be negative");
+        }
+        this.cellSize = cellSize;
+        this.gridSize = gridSize;
+        this.cells = new ArrayList<>(gridSize * gridSize);
+        for (int i = 0; i < gridSize * gridSize; i++) {
+            this.cells.add(new ArrayList<>());
+        }
+    }
+
+    @Override
+    public GridPosition getCell(final Position position) {
+        return new GridPosition(this.toCell(position.getY()), this.toCell(position.getX()));
+    }
+
+    @Override
+    public GridPosition getCell(final Position position, final GridPosition out) {
+        out.setCoordinates(this.toCell(position.getY()), this.toCell(position.getX()));
+        return out;
+    }
+
+    @Override
+    public boolean isInside(final GridPosition cell, final Position position) {
+        return this.toCell(position.getY()) == cell.getRow() && this.toCell(position.getX()) == cell.getColumn();
+    }
+
+    @Override
+    public void add(final T element, final GridPosition cell) {
+        List<T> bucket = this.getBucket(cell.getRow(), cell.getColumn());
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            this.outside.put(new GridPosition(cell), bucket);   // The key is copied, as the caller may change the given cell.
+        }
+        bucket.add(element);
+        this.size++;
+    }
+
+    @Override
+    public void move(final T element, final GridPosition from, final GridPosition to) {
+        this.remove(element, from);
+        this.add(element, to);
+    }
+
+    @Override
+    public void remove(final T element, final GridPosition cell) {
+        final List<T> bucket = this.getBucket(cell.getRow(), cell.getColumn());
+        if (bucket != null && bucket.remove(element)) {
+            this.size--;    // Empty lists are kept for the next elements entering the cell.
+        }
+    }
+
+    @Override
+    public void forEachInRange(final Position center, final double radius, final Consumer<? super T> action) {
+        final double radiusSquared = radius * radius;
+        final int minRow = this.toCell(center.getY() - radius);
+        final int maxRow = this.toCell(center.getY() + radius);
+        final int minColumn = this.toCell(center.getX() - radius);
+        final int maxColumn = this.toCell(center.getX() + radius);
+        for (int row = minRow; row <= maxRow; row++) {
+            final double dy = this.distanceToSpan(center.getY(), row);
+            for (int column = minColumn; column <= maxColumn; column++) {
+                final double dx = this.distanceToSpan(center.getX(), column);
+                if (dx * dx + dy * dy <= radiusSquared) {   // Corner cells of the bounding box may be out of the circle.
+                    final List<T> bucket = this.getBucket(row, column);
+                    if (bucket != null) {
+                        bucket.forEach(action);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // Gives the list of a cell, or null if the cell is outside the map and no element has ever entered it.
+    private List<T> getBucket(final int row, final int column) {
+        if (row >= 0 && row < this.gridSize && column >= 0 && column < this.gridSize) {
+            return this.cells.get(row * this.gridSize + column);
+        }
+        this.lookup.setCoordinates(row, column);
+        return this.outside.get(this.lookup);
+    }
+
+    private int toCell(final double coordinate) {
+        return (int) Math.floor(coordinate / this.cellSize);
+    }
+
+    // Distance along one axis between a coordinate and the closest point of the given cell.
+    private double distanceToSpan(final double coordinate, final int cell) {
+        final double start = (double) cell * this.cellSize;
+        final double end = start + this.cellSize;
+        if (coordinate < start) {
+            return start - coordinate;
+        }
+        return coordinate > end ? coordinate - end : 0;
+    }
+}
@@ -0,0 +1,102 @@
+package sgf.utilities;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Enumeration of the kinds of threads the game can run its tasks on.
+ * The mode is chosen through the {@code sgf.threads} system property, whose value can be {@code platform} (default)
+ * or {@code virtual}.
+ */
+public enum ThreadMode {
+    /**
+     * Tasks run on platform threads, each backed by an OS thread.
+     */
+    PLATFORM,
+
+    /**
+     * Tasks run on virtual threads, scheduled by the JVM over a small pool of OS threads.
+     * Falls back to platform threads, warning once, when the running JVM does not support them.
+     */
+    VIRTUAL;
+
+    /**
+     * Name of the system property used to choose the mode.
+     */
+    public static final String PROPERTY = "sgf.threads";
+    private static final ThreadMode CURRENT = fromName(System.getProperty(PROPERTY, PLATFORM.name()));
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private static final Method UNSTARTED = findMethod(OF_VIRTUAL == null ? null : OF_VIRTUAL.getReturnType(), "unstarted", Runnable.class);
+    private static final Method NAME = findMethod(OF_VIRTUAL == null ? null : OF_VIRTUAL.getReturnType(), "name", String.class);
+    private static final AtomicBoolean FALLBACK_REPORTED = new AtomicBoolean();
+
+    static {
+        if (CURRENT == VIRTUAL && !isVirtualSupported()) {
+            reportFallback("this JVM does not support them");
+        }
+    }
+
+    /**
+     * Returns the mode chosen through the {@code sgf.threads} system property.
+     * @return the current mode
+     */
+    public static ThreadMode current() {
+        return CURRENT;
+    }
+
+    /**
+     * Creates a new thread of this kind, without starting it.
+     * @param name the name of the thread
+     * @param task the task the thread will run
+     * @return the created {@link Thread}
+     */
+    public Thread newThread(final String name, final Runnable task) {
+        if (this == VIRTUAL && isVirtualSupported()) {
+            try {
+                final Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), name);
+                return (Thread) UNSTARTED.invoke(builder, task);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                reportFallback("they cannot be created (" + e + ")");   // The thread is created as a platform one.
+            }
+        }
+        return new Thread(task, name);
+    }
+
+    /**
+     * Checks whether the running JVM supports virtual threads.
+     * @return {@code true} if virtual threads are supported, {@code false} otherwise
+     */
+    public static boolean isVirtualSupported() {
+        return OF_VIRTUAL != null && UNSTARTED != null && NAME != null;
+    }
+
+    // Warns, only the first time, that virtual threads were asked for but platform threads are used instead.
+    private static void reportFallback(final String reason) {
+        if (FALLBACK_REPORTED.compareAndSet(false, true)) {
+            System.err.println("Virtual threads chosen through " + PROPERTY + ", but " + reason + ": platform threads will be used");
+        }
+    }
+
+    private static ThreadMode fromName(final String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown value for " + PROPERTY + ": " + name + ", platform threads will be used");
+            return PLATFORM;
+        }
+    }
+
+    // Virtual threads are looked up by reflection, so the game still builds and runs on JVMs without them.
+    private static Method findMethod(final Class<?> type, final String name, final Class<?>... parameters) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return type.getMethod(name, parameters);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package sgf.view;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JComponent;
+
+/**
+ * Keeps track of the regions of a layer that change from a frame to the next one: the bounds of the sprites drawn
+ * in the previous frame, where the background must be restored, and the bounds of the sprites drawn in the new one.
+ * The rectangles are reused from frame to frame, so tracking them allocates nothing once the number of sprites is stable.
+ */
+public class DirtyRegion {
+    private List<Rectangle> previous = new ArrayList<>();   // Bounds of the sprites of the previous frame.
+    private List<Rectangle> current = new ArrayList<>();    // Bounds of the sprites of the new frame.
+    private int previousCount;
+    private int currentCount;
+    private final Rectangle union = new Rectangle();
+
+    /**
+     * Records the bounds of a sprite drawn in the new frame.
+     * @param x the x coordinate of the sprite
+     * @param y the y coordinate of the sprite
+     * @param width the width of the sprite
+     * @param height the height of the sprite
+     */
+    public void add(final int x, final int y, final int width, final int height) {
+        if (this.currentCount == this.current.size()) {
+            this.current.add(new Rectangle());
+        }
+        this.current.get(this.currentCount++).setBounds(x, y, width, height);
+    }
+
+    /**
+     * Restores the background under the sprites drawn in the previous frame, which are the only regions that differ from it.
+     * @param g the graphics of the back buffer
+     * @param background the background, of the same size of the back buffer
+     */
+    public void restorePrevious(final Graphics2D g, final BufferedImage background) {
+        for (int i = 0; i < this.previousCount; i++) {
+            final Rectangle r = this.previous.get(i);
+            g.drawImage(background, r.x, r.y, r.x + r.width, r.y + r.height, r.x, r.y, r.x + r.width, r.y + r.height, null);
+        }
+    }
+
+    /**
+     * Repaints the union of the regions of the previous and of the new frame.
+     * @param component the component the back buffer is drawn in, without scaling it
+     */
+    public void repaint(final JComponent component) {
+        if (this.computeUnion()) {
+            component.repaint(this.union);
+        }
+    }
+
+    /**
+     * Forgets all the regions, when the back buffer is drawn again from scratch.
+     */
+    public void reset() {
+        this.previousCount = 0;
+        this.currentCount = 0;
+    }
+
+    /**
+     * Ends the new frame, which becomes the previous one.
+     */
+    public void nextFrame() {
+        final List<Rectangle> swap = this.previous;
+        this.previous = this.current;
+        this.current = swap;
+        this.previousCount = this.currentCount;
+        this.currentCount = 0;
+    }
+
+    // Computes the bounding box of all the regions, returning false if there are none.
+    private boolean computeUnion() {
+        boolean empty = true;
+        for (int i = 0; i < this.previousCount + this.currentCount; i++) {
+            final Rectangle r = i < this.previousCount ? this.previous.get(i) : this.current.get(i - this.previousCount);
+            if (empty) {
+                this.union.setBounds(r);
+                empty = false;
+            } else {
+                this.union.add(r);
+            }
+        }
+        return !empty;
+    }
+}
@@ -0,0 +1,27 @@
+package sgf.view;
+
+import java.awt.Graphics2D;
+import sgf.model.game.FrameSnapshot;
+
+/**
+ * A view drawn as a layer over the map, from a snapshot of the game, in the back buffer shared by all the layers.
+ */
+public interface LayerView {
+
+    /**
+     * Prepares the sprites of the layer for a new size on screen. Called before the first drawing and whenever the size changes.
+     * @param viewport the {@link Viewport} the layer is drawn in
+     */
+    void resize(Viewport viewport);
+
+    /**
+     * Draws the layer of a snapshot, recording the bounds of everything drawn. Called by the thread that renders the game,
+     * never while the layer is being resized.
+     * @param g the graphics of the back buffer
+     * @param frame the snapshot to draw
+     * @param alpha the fraction of the tick elapsed since the snapshot was published, used to blend the moving entities between
+     * their previous and current state
+     * @param dirtyRegion the {@link DirtyRegion} where the bounds of the drawn sprites are recorded
+     */
+    void draw(Graphics2D g, FrameSnapshot frame, double alpha, DirtyRegion dirtyRegion);
+}
@@ -0,0 +1,118 @@
+package sgf.view;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import sgf.helpers.ImgTileSize;
+import sgf.managers.ImageLoaderManager;
+import sgf.managers.SpriteCache;
+
+/**
+ * Size at which the game is shown on screen, and format of the images drawn on it.
+ * Positions of the model, where a tile is as large as {@link ImgTileSize#getTileSize()}, are scaled to tiles of the size on screen,
+ * and images are created in the format of the screen, so drawing them is a plain copy.
+ */
+public class Viewport {
+    private final int matrixSize;
+    private final int tileSize;
+    private final double scale;     // Ratio between a tile on screen and a tile of the model.
+    private final GraphicsConfiguration config;
+
+    /**
+     * Creates a viewport.
+     * @param matrixSize the number of tiles of a side of the map
+     * @param tileSize the side of a tile on screen
+     * @param config the {@link GraphicsConfiguration} of the screen, or null to create images in the default ARGB format
+     */
+    public Viewport(final int matrixSize, final int tileSize, final GraphicsConfiguration config) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("The size of a tile must be positive");
+        }
+        this.matrixSize = matrixSize;
+        this.tileSize = tileSize;
+        this.scale = (double) tileSize / ImgTileSize.getTileSize();
+        this.config = config;
+    }
+
+    /**
+     * Gives the side of a tile on screen.
+     * @return the side of a tile in pixels
+     */
+    public int getTileSize() {
+        return this.tileSize;
+    }
+
+    /**
+     * Gives the side of the whole map on screen.
+     * @return the side of the map in pixels
+     */
+    public int getSide() {
+        return this.matrixSize * this.tileSize;
+    }
+
+    /**
+     * Scales a coordinate of the model to the screen.
+     * @param coordinate the coordinate of the model
+     * @return the coordinate on screen
+     */
+    public int toScreen(final double coordinate) {
+        return (int) (coordinate * this.scale);
+    }
+
+    /**
+     * Gives the tile a coordinate on screen falls in.
+     * @param coordinate the coordinate on screen
+     * @return the row or column of the tile, which is outside the map if the coordinate is
+     */
+    public int toTile(final int coordinate) {
+        return Math.floorDiv(coordinate, this.tileSize);
+    }
+
+    /**
+     * Creates an empty image in the format of the screen.
+     * @param width the width of the image
+     * @param height the height of the image
+     * @param transparency the {@link Transparency} of the image
+     * @return the created image
+     */
+    public BufferedImage createImage(final int width, final int height, final int transparency) {
+        if (this.config != null) {
+            return this.config.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Converts an image to the format of the screen, scaling it once to the size it is drawn at.
+     * @param source the image to convert
+     * @param width the width it is drawn at
+     * @param height the height it is drawn at
+     * @param transparency the {@link Transparency} of the converted image
+     * @return the converted image
+     */
+    public BufferedImage prescale(final Image source, final int width, final int height, final int transparency) {
+        final BufferedImage image = this.createImage(Math.max(width, 1), Math.max(height, 1), transparency);
+        final Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, image.getWidth(), image.getHeight(), null);
+        g.dispose();
+        return image;
+    }
+
+    /**
+     * Gives the sprite of an element scaled to the size it is drawn at, in the format of the screen.
+     * The sprite is kept by the shared {@link SpriteCache}, so it is scaled once whatever the number of views that draw it.
+     * @param <T> the type of the elements of the image manager
+     * @param images the {@link ImageLoaderManager} the sprite belongs to
+     * @param element the element whose sprite is given
+     * @param width the width it is drawn at
+     * @param height the height it is drawn at
+     * @return the scaled sprite
+     */
+    public <T> BufferedImage getSprite(final ImageLoaderManager<T> images, final T element, final int width, final int height) {
+        return images.getImage(element, Math.max(width, 1), Math.max(height, 1), this.config);
+    }
+}
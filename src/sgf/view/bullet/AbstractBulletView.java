@@ -1,12 +1,8 @@
 package sgf.view.bullet;
 
-import javax.swing.JPanel;
-
 /**
- * Abstract class for {@link JPanel}-based views for bullets.
+ * Abstract class for the views of the bullets, drawn as a layer of the game view.
  */
-public abstract class AbstractBulletView extends JPanel implements BulletView {
-
-    private static final long serialVersionUID = -3642743455879075160L;
+public abstract class AbstractBulletView implements BulletView {
 
 }
@@ -1,11 +1,12 @@
 package sgf.view.bullet;
 
 import sgf.controller.bullet.BulletController;
+import sgf.view.LayerView;
 import sgf.view.View;
 
 /**
  * Bullet View.
  */
-public interface BulletView extends View<BulletController> {
+public interface BulletView extends View<BulletController>, LayerView {
 
 }
@@ -1,70 +1,65 @@
 package sgf.view.bullet;
 
-import java.awt.Color;
-import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Image;
 import java.awt.image.BufferedImage;
-import java.util.concurrent.Semaphore;
+import java.util.Arrays;
 import sgf.controller.bullet.BulletController;
-import sgf.helpers.ImgTileSize;
 import sgf.managers.BulletImageManager;
 import sgf.managers.ImageLoaderManager;
-import sgf.model.bullet.Bullet;
-import sgf.model.map.Position;
-import sgf.utilities.LockClass;
+import sgf.model.game.FrameSnapshot;
 import sgf.utilities.ThreadAndViewObservable;
+import sgf.view.DirtyRegion;
+import sgf.view.Viewport;
 
 /**
- *
+ * Layer of the bullets.
  */
 public class BulletViewImpl extends AbstractBulletView {
 
-    /**
-     * 
-     */
-    private static final long serialVersionUID = 4332476576224943846L;
-    private transient BulletController bulletController;
+    @SuppressWarnings("unused")
+    private BulletController bulletController;
     private boolean isControllerSet;
     private boolean ready;
-    private final Semaphore semaphore;
-    private final int tileSize;
-    private final transient BufferedImage image;
-    private final transient ImageLoaderManager<Integer> imgManager;
+    private final ImageLoaderManager<Integer> imgManager;
+    private Viewport viewport;
+    private BufferedImage[] sprites = new BufferedImage[0];     // Prescaled to the tile on screen, by bullet ID.
 
     /**
      * Constructor for creating an instance of a {@code BulletViewImpl}.
-     * @param matrixSize the size of map in tiles
      */
-    public BulletViewImpl(final int matrixSize) {
-        this.tileSize = ImgTileSize.getTileSize();
-        this.image = new BufferedImage(matrixSize * this.tileSize, matrixSize * this.tileSize, BufferedImage.TYPE_INT_ARGB);
-        this.semaphore = LockClass.getBulletSemaphore();
+    public BulletViewImpl() {
         this.imgManager = new BulletImageManager();
-        this.setVisible(false);
     }
 
     @Override
-    protected void paintComponent(final Graphics g) {
-        super.paintComponent(g);
-        if (this.ready) {
-            this.drawBullets((Graphics2D) this.image.getGraphics());
-            g.drawImage(image, 0, 0, this.getWidth(), this.getHeight(), null);
+    public void resize(final Viewport newViewport) {
+        this.viewport = newViewport;
+        this.sprites = new BufferedImage[0];    // Prescaled again the first time they are drawn.
+    }
+
+    @Override
+    public void draw(final Graphics2D gImage, final FrameSnapshot frame, final double alpha, final DirtyRegion dirtyRegion) {
+        if (!this.ready) {
+            return;
+        }
+        for (int i = 0; i < frame.getBulletCount(); i++) {
+            final BufferedImage img = this.getSprite(frame.getBulletID(i));
+            final int x = this.viewport.toScreen(frame.getBulletX(i, alpha));
+            final int y = this.viewport.toScreen(frame.getBulletY(i, alpha));
+            gImage.drawImage(img, x, y, null);
+            dirtyRegion.add(x, y, img.getWidth(), img.getHeight());
         }
     }
 
-    private void drawBullets(final Graphics2D gImage) {
-        gImage.setBackground(new Color(0, 0, 0, 0));
-        gImage.clearRect(0, 0, this.image.getWidth(), this.image.getHeight());  // Clears the image area before repaint in another position.
-        semaphore.acquireUninterruptibly();
-        final var iterator = this.bulletController.getBulletsIterator();
-        while (iterator.hasNext()) {
-            final Bullet b = iterator.next();
-            final Image img = this.imgManager.getImage(b.getID());
-            final Position pos = b.getPosition();
-            gImage.drawImage(img, (int) pos.getX(), (int) pos.getY(), this.tileSize, this.tileSize, null);
+    private BufferedImage getSprite(final int bulletID) {
+        if (bulletID >= this.sprites.length) {
+            this.sprites = Arrays.copyOf(this.sprites, bulletID + 1);
+        }
+        if (this.sprites[bulletID] == null) {
+            final int tileSize = this.viewport.getTileSize();
+            this.sprites[bulletID] = this.viewport.getSprite(this.imgManager, bulletID, tileSize, tileSize);
         }
-        semaphore.release();
+        return this.sprites[bulletID];
     }
 
     @Override
@@ -79,7 +74,6 @@ public class BulletViewImpl extends AbstractBulletView {
     public void start() {
         if (this.isControllerSet) {
             this.ready = true;
-            this.setVisible(true);
             ThreadAndViewObservable.register(this);
         } else {
             throw new IllegalStateException("Cannot invoke start() if the controller has not been set.");
@@ -89,6 +83,5 @@ public class BulletViewImpl extends AbstractBulletView {
     @Override
     public void stop() {
         this.ready = false;
-        this.setVisible(false);
     }
 }
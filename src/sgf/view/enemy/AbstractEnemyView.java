@@ -1,12 +1,8 @@
 package sgf.view.enemy;
 
-import javax.swing.JPanel;
-
 /**
- * Abstract class that extends a JPanel.
+ * Abstract class for the views of the enemies, drawn as a layer of the game view.
  */
-public abstract class AbstractEnemyView extends JPanel implements EnemyView {
-
-    private static final long serialVersionUID = 4247529738394950352L;
+public abstract class AbstractEnemyView implements EnemyView {
 
 }
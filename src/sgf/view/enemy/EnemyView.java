@@ -1,12 +1,13 @@
 package sgf.view.enemy;
 
 import sgf.controller.enemy.EnemyController;
+import sgf.view.LayerView;
 import sgf.view.View;
 
 /**
  * Enemy view.
  */
-public interface EnemyView extends View<EnemyController> {
+public interface EnemyView extends View<EnemyController>, LayerView {
 
     /**
      * Informs player that wins the game.
@@ -1,87 +1,80 @@
 package sgf.view.enemy;
 
 import sgf.controller.enemy.EnemyController;
-import sgf.helpers.ImgTileSize;
 import sgf.managers.BarLifeImageManager;
 import sgf.managers.EnemyImageManager;
 import sgf.managers.EnemyManager;
 import sgf.managers.ImageLoaderManager;
-import sgf.model.enemies.Enemy;
 import sgf.model.enemies.EnemyType;
-import sgf.utilities.LockClass;
+import sgf.model.game.FrameSnapshot;
 import sgf.utilities.ThreadAndViewObservable;
-import java.awt.Color;
-import java.awt.Graphics;
+import sgf.view.DirtyRegion;
+import sgf.view.Viewport;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import  java.util.List;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 
 /**
- * Panel for enemy's movement and appearance.
+ * Layer for enemy's movement and appearance.
  */
 public class EnemyViewImpl extends AbstractEnemyView {
-    private static final long serialVersionUID = 6345414040020937047L;
-    private static final int RGB_MAX = 255;     // Maximum value that a RGB parameter must assume.
     private static final int BAR_HEIGHT = 8;
-    private transient EnemyController enemyController;
-    private final transient ImageLoaderManager<EnemyType> imageEnemyController;      // Contains the links between enemy type and images.
-    private final transient ImageLoaderManager<Integer> imageBarController;
-    private final transient BufferedImage image;  // Empty image of total panel size to replace and hide previous effective enemy image.
-    private transient List<EnemyManager> enemyList;       // List of enemies to be showed.
+    private EnemyController enemyController;
+    private final ImageLoaderManager<EnemyType> imageEnemyController;      // Contains the links between enemy type and images.
+    private final ImageLoaderManager<Integer> imageBarController;
+    private final Map<EnemyType, BufferedImage> sprites = new EnumMap<>(EnemyType.class);    // Prescaled to the tile on screen.
+    private BufferedImage lifeBar;      // Full life bar, prescaled to the width of a tile on screen.
+    private Collection<EnemyManager> enemyList;       // Enemies to be stopped with the view.
     private boolean isControllerSet;
-    private final int tileSize;
+    private int tileSize;
+    private Viewport viewport;
     private boolean ready;
 
     /**
-     * Constructor that sets the image, image controller and list of enemies.
-     * @param matrixSize Is the size that the enemy's image must have.
+     * Constructor that sets the image controllers.
      */
-    public EnemyViewImpl(final int matrixSize) {
-        this.tileSize = ImgTileSize.getTileSize();
-        this.image = new BufferedImage(matrixSize * this.tileSize, matrixSize * this.tileSize, BufferedImage.TYPE_INT_ARGB);
+    public EnemyViewImpl() {
         this.imageEnemyController = new EnemyImageManager();
         this.imageBarController = new BarLifeImageManager();
-        this.setVisible(false);
     }
 
     @Override
-    protected void paintComponent(final Graphics g) {
-        super.paintComponent(g);
-        if (this.ready) {
-            final var gImage = (Graphics2D) this.image.getGraphics();
-            gImage.setBackground(new Color(RGB_MAX, RGB_MAX, RGB_MAX, 0));
-            gImage.clearRect(0, 0, this.image.getWidth(), this.image.getHeight());  // Clears the image area before repaint in another position.
-            this.drawComponents(gImage);
-            // The panel is covered with an empty image in order to hide the previous enemy image displayed.
-            g.drawImage(image, 0, 0, this.getWidth(), this.getHeight(), null);
+    public void resize(final Viewport newViewport) {
+        this.viewport = newViewport;
+        this.tileSize = newViewport.getTileSize();
+        for (final EnemyType type : EnemyType.values()) {
+            this.sprites.put(type, newViewport.getSprite(this.imageEnemyController, type, this.tileSize, this.tileSize));
         }
+        this.lifeBar = newViewport.getSprite(this.imageBarController, 0, this.tileSize, newViewport.toScreen(BAR_HEIGHT));
     }
 
-    private void drawComponents(final Graphics2D gImage) {
-        // For each enemy in the list repaint it.
-            LockClass.getEnemySemaphore().acquireUninterruptibly();
-            this.enemyList.forEach(x -> {
-                final var enemy = x.getEnemy();
-                this.drowSprite(gImage, enemy);
-                this.drowLifeBar(gImage, enemy);
-            });
-            LockClass.getEnemySemaphore().release();
+    @Override
+    public void draw(final Graphics2D gImage, final FrameSnapshot frame, final double alpha, final DirtyRegion dirtyRegion) {
+        if (!this.ready) {
+            return;
+        }
+        // For each enemy in the snapshot draw it. The life bar is drawn within the sprite.
+        for (int i = 0; i < frame.getEnemyCount(); i++) {
+            final int x = this.viewport.toScreen(frame.getEnemyX(i, alpha));
+            final int y = this.viewport.toScreen(frame.getEnemyY(i, alpha));
+            this.drowSprite(gImage, frame, i, x, y);
+            this.drowLifeBar(gImage, frame, i, x, y);
+            dirtyRegion.add(x, y, this.tileSize, this.tileSize);
+        }
     }
 
-    private void drowLifeBar(final Graphics2D gImage, final Enemy enemy) {
-        gImage.drawImage(this.imageBarController.getImage(0),
-                (int) enemy.getPosition().getX(),
-                (int) enemy.getPosition().getY(),
-                (int) (this.tileSize * enemy.getPercentHp()), BAR_HEIGHT, null);
+    private void drowLifeBar(final Graphics2D gImage, final FrameSnapshot frame, final int enemy, final int x, final int y) {
+        // Only the part of the bar for the remaining life is copied, without scaling it.
+        final int width = (int) (this.tileSize * frame.getEnemyHpPercent(enemy));
+        gImage.drawImage(this.lifeBar, x, y, x + width, y + this.lifeBar.getHeight(), 0, 0, width, this.lifeBar.getHeight(), null);
     }
 
-    private void drowSprite(final Graphics2D gImage, final Enemy enemy) {
-        gImage.drawImage(this.imageEnemyController.getImage(enemy.getEnemyType()),
-                (int) enemy.getPosition().getX(),
-                (int) enemy.getPosition().getY(),
-                this.tileSize, this.tileSize, null);
+    private void drowSprite(final Graphics2D gImage, final FrameSnapshot frame, final int enemy, final int x, final int y) {
+        gImage.drawImage(this.sprites.get(frame.getEnemyType(enemy)), x, y, null);
     }
 
     @Override
@@ -89,7 +82,7 @@ public class EnemyViewImpl extends AbstractEnemyView {
         if (!isControllerSet) {
             this.isControllerSet = true;
             this.enemyController = controller;
-            this.enemyList = this.enemyController.getManagerList();
+            this.enemyList = this.enemyController.getManagers();
         }
     }
 
@@ -104,7 +97,6 @@ public class EnemyViewImpl extends AbstractEnemyView {
     public void start() {
         if (isControllerSet) {
             this.ready = true;
-            this.setVisible(true);
             ThreadAndViewObservable.register(this);
         } else {
             throw new IllegalStateException("Cannot invoke start() if the controller has not been set.");
@@ -113,9 +105,7 @@ public class EnemyViewImpl extends AbstractEnemyView {
 
     @Override
     public void stop() {
-        LockClass.getEnemySemaphore().acquireUninterruptibly();
         this.enemyList.forEach(x -> x.stopThread());
-        LockClass.getEnemySemaphore().release();
-        this.setVisible(false);
+        this.ready = false;
     }
 }
@@ -9,7 +9,7 @@ import sgf.view.View;
 public interface GameView extends View<GameController> {
 
     /**
-     * Updates the view of the game.
+     * Updates the view of the game. Called once per frame by the thread that paces the rendering.
      */
     void update();
 }
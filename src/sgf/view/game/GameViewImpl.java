@@ -1,61 +1,223 @@
 package sgf.view.game;
 
 import java.awt.BorderLayout;
+import java.awt.Canvas;
+import java.awt.Component;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Toolkit;
+import java.awt.Transparency;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ActionEvent;
+import java.awt.event.ComponentEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.AbstractAction;
+import javax.swing.KeyStroke;
+import javax.swing.SwingUtilities;
 import sgf.controller.game.GameController;
+import sgf.managers.FramePublisher;
+import sgf.managers.GameLoop;
+import sgf.model.game.FrameSnapshot;
+import sgf.utilities.RenderMode;
 import sgf.utilities.ThreadAndViewObservable;
+import sgf.view.DirtyRegion;
+import sgf.view.LayerView;
+import sgf.view.Viewport;
 import sgf.view.bullet.AbstractBulletView;
 import sgf.view.enemy.AbstractEnemyView;
 import sgf.view.map.AbstractMapView;
 import sgf.view.turret.AbstractTurretView;
 
 /**
- * This panel contains both the enemy and tile panels.
+ * This panel composes the whole game in a single back buffer: the map is copied once, then turrets, enemies with their life bars
+ * and bullets are drawn over it in one pass. Every frame only the regions that changed are restored from the map and redrawn.
+ * The back buffer, the map and the sprites are kept at the size they have on screen and in the format of the screen, and are
+ * prepared again only when the size of the tiles changes, so every frame is drawn with plain copies.
+ * Frames drawn between two ticks blend the moving entities between their state at the previous tick and at the latest one, by the
+ * fraction of the tick elapsed since the latest snapshot was published, so motion stays smooth at any tick rate.
+ * With {@link RenderMode#PASSIVE} rendering the changed regions are repainted by Swing; with {@link RenderMode#ACTIVE} rendering the
+ * thread that updates the view also shows every frame on a {@link Canvas}, through its {@link BufferStrategy}.
+ * F3 shows or hides a {@link PerformanceOverlay} over the game.
  */
 public class GameViewImpl extends AbstractGameView {
     private static final long serialVersionUID = -5124611364267300243L;
+    private static final int BUFFERS = 2;
+    private static final String TOGGLE_OVERLAY = "toggleOverlay";
     @SuppressWarnings("unused")
     private GameController gameController;
-    private final AbstractMapView mapPanel;             // Panel that contains map grid of tiles.
-    private final AbstractEnemyView enemyPanel;         // Panel that contains enemies in movement.
-    private final AbstractTurretView turretPanel;       // Panel that contains turrets.
-    private final AbstractBulletView bulletPanel;       // Panel that contains bullets.
-    // the same thing must be done for bullets
+    private final transient AbstractMapView mapView;                 // Background of the game.
+    private final int matrixSize;
+    private final transient AbstractTurretView turretView;           // Also handles the clicks on the game.
+    private final transient List<LayerView> layers;                  // Layers drawn over the map, from the bottom one.
+    private final transient FramePublisher framePublisher;           // Source of the snapshots the layers are drawn from.
+    private final transient PerformanceOverlay overlay;              // Drawn over all the layers, when shown.
+    private transient Viewport viewport;             // Size of the game on screen, null until the panel has one.
+    private transient BufferedImage background;     // Image of the map, restored under the sprites that moved.
+    private transient BufferedImage buffer;         // Back buffer where the game is composed.
+    private final transient DirtyRegion dirtyRegion = new DirtyRegion();
+    private long drawnTick = -1;    // Tick of the snapshot composed in the back buffer.
+    private double drawnAlpha;      // Fraction of the tick the snapshot has been composed at.
+    private final RenderMode mode = RenderMode.current();
+    private final transient Object renderLock = new Object();  // Composing never overlaps resizing, which runs on the event dispatch thread.
+    private transient Canvas canvas;                 // Surface of active rendering, null with passive rendering.
+    private transient BufferStrategy strategy;
     private boolean isControllerSet;
     private boolean ready;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();    // Coalesces the refreshes requested before the previous one ran.
+    private final transient Runnable refresh = this::refreshLayers;
 
     /**
-     * Constructor that initializes both enemy and map panels.
+     * Constructor that initializes the layers of the game.
      * @param mapView the view of the map
      * @param enemyView the view of the enemies
-     * @param turretView
-     * @param bulletView
+     * @param turretView the view of the turrets
+     * @param bulletView the view of the bullets
+     * @param framePublisher the {@link FramePublisher} the layers are drawn from
+     * @param gameLoop the {@link GameLoop} whose ticks are measured by the overlay
      */
-    public GameViewImpl(final AbstractMapView mapView, final AbstractEnemyView enemyView, final AbstractTurretView turretView, 
-            final AbstractBulletView bulletView) { 
+    public GameViewImpl(final AbstractMapView mapView, final AbstractEnemyView enemyView, final AbstractTurretView turretView,
+            final AbstractBulletView bulletView, final FramePublisher framePublisher, final GameLoop gameLoop) {
         super();
-        // this.mapPanel = new MapViewImpl(map);
-        //this.enemyPanel = new EnemyViewImpl(size, map.getMapSize(), enemyList);
-        this.mapPanel = mapView;
-        this.enemyPanel = enemyView;
-        this.turretPanel = turretView;
-        this.bulletPanel = bulletView;
+        this.mapView = mapView;
+        this.matrixSize = mapView.getMatrixSize();
+        this.turretView = turretView;
+        this.layers = List.of(turretView, enemyView, bulletView);
+        this.framePublisher = framePublisher;
+        this.overlay = new PerformanceOverlay(gameLoop, "turrets", "enemies", "bullets");
         this.setVisible(false);
     }
 
     @Override
     public void update() {
-        this.repaint();
+        if (this.mode == RenderMode.ACTIVE) {
+            this.render();
+        } else if (this.refreshPending.compareAndSet(false, true)) {
+            // Only the regions of the layers that changed are composed again and repainted.
+            SwingUtilities.invokeLater(this.refresh);
+        }
+    }
+
+    private void refreshLayers() {
+        this.refreshPending.set(false);
+        synchronized (this.renderLock) {
+            if (this.compose()) {
+                this.dirtyRegion.repaint(this);
+                this.dirtyRegion.nextFrame();
+            }
+        }
+    }
+
+    // Draws the back buffer on the canvas, composing the latest snapshot first if it has not been composed yet.
+    private void render() {
+        synchronized (this.renderLock) {
+            if (this.viewport == null || !this.canvas.isDisplayable()) {
+                return;
+            }
+            if (this.compose()) {
+                this.dirtyRegion.nextFrame();
+            }
+            if (this.strategy == null) {
+                this.canvas.createBufferStrategy(BUFFERS);
+                this.strategy = this.canvas.getBufferStrategy();
+            }
+            // The contents of the strategy buffers can be lost at any time, in which case the frame is drawn again.
+            do {
+                do {
+                    final Graphics g = this.strategy.getDrawGraphics();
+                    final int side = this.viewport.getSide();
+                    g.setColor(this.getBackground());
+                    g.fillRect(side, 0, this.canvas.getWidth() - side, this.canvas.getHeight());
+                    g.fillRect(0, side, side, this.canvas.getHeight() - side);
+                    g.drawImage(this.buffer, 0, 0, null);
+                    g.dispose();
+                } while (this.strategy.contentsRestored());
+                this.strategy.show();
+            } while (this.strategy.contentsLost());
+            Toolkit.getDefaultToolkit().sync();
+        }
+    }
+
+    // Composes the latest snapshot in the back buffer at the fraction of the tick elapsed, unless it has already been, returning
+    // whether it has been composed.
+    private boolean compose() {
+        final FrameSnapshot frame = this.framePublisher.getLatest();
+        final double alpha = frame.getAlpha(System.nanoTime());
+        if (!this.ready || this.viewport == null || frame.getTick() == this.drawnTick && alpha == this.drawnAlpha) {
+            return false;
+        }
+        this.drawnTick = frame.getTick();
+        this.drawnAlpha = alpha;
+        final Graphics2D gBuffer = this.buffer.createGraphics();
+        this.dirtyRegion.restorePrevious(gBuffer, this.background);     // Removes the sprites where they were in the previous frame.
+        for (int i = 0; i < this.layers.size(); i++) {
+            final long start = System.nanoTime();
+            this.layers.get(i).draw(gBuffer, frame, alpha, this.dirtyRegion);
+            this.overlay.recordLayer(i, System.nanoTime() - start);
+        }
+        this.overlay.draw(gBuffer, frame, alpha, this.dirtyRegion);
+        gBuffer.dispose();
+        return true;
+    }
+
+    // Makes the next frame be composed even if the snapshot has not changed.
+    private void recompose() {
+        synchronized (this.renderLock) {
+            this.drawnTick = -1;
+        }
+        if (this.mode == RenderMode.PASSIVE) {
+            this.update();
+        }
+    }
+
+    // Gives the component the game is shown on.
+    private Component getSurface() {
+        return this.canvas == null ? this : this.canvas;
+    }
+
+    // Prepares the back buffer, the map and the sprites for the size of the surface, if the size of the tiles has changed.
+    private void resizeLayers() {
+        synchronized (this.renderLock) {
+            this.resizeSurface();
+        }
+        if (this.mode == RenderMode.PASSIVE) {
+            this.refreshLayers();
+            this.repaint();
+        }
+    }
+
+    private void resizeSurface() {
+        final Component surface = this.getSurface();
+        final int tileSize = Math.min(surface.getWidth(), surface.getHeight()) / this.matrixSize;     // Tiles are kept square.
+        if (tileSize < 1 || this.viewport != null && this.viewport.getTileSize() == tileSize) {
+            return;
+        }
+        final GraphicsConfiguration config = surface.getGraphicsConfiguration();
+        this.viewport = new Viewport(this.matrixSize, tileSize, config);
+        final int side = this.viewport.getSide();
+        this.background = this.viewport.prescale(this.mapView.getMapImage(), side, side, Transparency.OPAQUE);
+        this.buffer = this.viewport.createImage(side, side, Transparency.OPAQUE);
+        final Graphics2D gBuffer = this.buffer.createGraphics();
+        gBuffer.drawImage(this.background, 0, 0, null);
+        gBuffer.dispose();
+        for (final LayerView layer : this.layers) {
+            layer.resize(this.viewport);
+        }
+        this.dirtyRegion.reset();   // The buffer holds only the map.
+        this.drawnTick = -1;
     }
 
     @Override
     protected void paintComponent(final Graphics g) {
         super.paintComponent(g);
-        if (this.ready) {
-            mapPanel.repaint();
-            enemyPanel.repaint();
-            turretPanel.repaint();
-            bulletPanel.repaint();
+        if (this.ready && this.buffer != null && this.canvas == null) {
+            g.drawImage(this.buffer, 0, 0, null);   // Only the clipped region is actually copied.
         }
     }
 
@@ -64,6 +226,7 @@ public class GameViewImpl extends AbstractGameView {
         if (!isControllerSet) {
             this.isControllerSet = true;
             this.gameController = controller;
+            this.overlay.setFramePacer(controller.getFramePacer());
         }
     }
 
@@ -71,20 +234,42 @@ public class GameViewImpl extends AbstractGameView {
     public void start() {
         if (this.isControllerSet) {
             ThreadAndViewObservable.register(this);
-            this.setLayout(new BorderLayout());
-            this.add(mapPanel);
-            this.mapPanel.setOpaque(false);
-            this.mapPanel.setLayout(new BorderLayout());
-            this.mapPanel.add(enemyPanel);
-            this.enemyPanel.setOpaque(false);       // The enemy's empty panel is set to be transparent so it doesn't cover the map's panel.
-            this.enemyPanel.setLayout(new BorderLayout());
-            this.enemyPanel.add(turretPanel);
-            this.turretPanel.setOpaque(false);
-            this.turretPanel.setLayout(new BorderLayout());
-            this.bulletPanel.setOpaque(false);
-            this.turretPanel.add(bulletPanel);
+            this.setOpaque(true);       // The map is opaque, and the rest of the panel is filled with the background color.
+            if (this.mode == RenderMode.ACTIVE) {
+                this.canvas = new Canvas();
+                this.canvas.setIgnoreRepaint(true);     // Frames are shown by the rendering thread only.
+                this.canvas.setFocusable(false);        // Keys are left to the panel, whose bindings would not see them.
+                this.setLayout(new BorderLayout());
+                this.add(this.canvas);
+            }
+            final Component surface = this.getSurface();
+            surface.addComponentListener(new ComponentAdapter() {
+                @Override
+                public void componentResized(final ComponentEvent e) {
+                    GameViewImpl.this.resizeLayers();
+                }
+            });
+            surface.addMouseListener(this.turretView);
+            surface.addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(final MouseEvent e) {
+                    // A click can select a turret without changing the snapshot, so the next frame is composed anyway.
+                    GameViewImpl.this.recompose();
+                }
+            });
+            this.getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), TOGGLE_OVERLAY);
+            this.getActionMap().put(TOGGLE_OVERLAY, new AbstractAction() {
+                private static final long serialVersionUID = 6382174550912046712L;
+
+                @Override
+                public void actionPerformed(final ActionEvent e) {
+                    GameViewImpl.this.overlay.toggle();
+                    GameViewImpl.this.recompose();
+                }
+            });
             this.ready = true;
             this.setVisible(true);
+            this.resizeLayers();    // In case the panel already has a size.
         } else {
             throw new IllegalStateException("Cannot invoke start() if the contorller has not been set.");
         }
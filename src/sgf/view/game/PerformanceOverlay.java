@@ -0,0 +1,195 @@
+package sgf.view.game;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import sgf.managers.GameLoop;
+import sgf.model.game.FrameSnapshot;
+import sgf.utilities.FramePacer;
+import sgf.utilities.RollingStats;
+import sgf.view.DirtyRegion;
+import sgf.view.LayerView;
+import sgf.view.Viewport;
+
+/**
+ * Layer drawn over the whole game that shows how it is performing: frames per second, time of the ticks and of the layers,
+ * entities on the map, live threads, used heap and allocation rate.
+ * All the times are kept in {@link RollingStats} windows, which are cheap to record, so they are measured even while the overlay is
+ * hidden: frame times by the {@link FramePacer} of the game thread, tick times by the game loop and layer times by the overlay.
+ * Only the latest ones are shown, so the measures follow the game as it runs instead of settling on the totals since it started.
+ * The text is built again only a few times per second, and only while it is shown.
+ * The overlay is shown from the start if the {@code sgf.overlay} system property is true.
+ */
+public class PerformanceOverlay implements LayerView {
+    /**
+     * Name of the system property used to show the overlay from the start.
+     */
+    public static final String PROPERTY = "sgf.overlay";
+    private static final int MEASURED_FRAMES = 240;   // Number of frames the layer times are kept for.
+    private static final long REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final double MEDIAN = 0.5;
+    private static final double P99 = 0.99;
+    private static final double MAX = 1;
+    private static final int MARGIN = 4;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 160);
+    private final GameLoop gameLoop;
+    private final String[] layerNames;
+    private final RollingStats[] layerTimes;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private volatile boolean visible = Boolean.getBoolean(PROPERTY);
+    private volatile FramePacer pacer;     // Null until the game thread is known.
+    private long lastRefresh = -1;
+    private long lastAllocated = -1;
+    private String[] lines = new String[0];     // Text shown, built again every refresh.
+    private int width;
+    private int height;
+
+    /**
+     * Creates a hidden overlay, unless the {@code sgf.overlay} system property is true.
+     * @param gameLoop the {@link GameLoop} whose ticks are measured
+     * @param layerNames the names of the layers whose drawing times are recorded, in the order they are drawn
+     */
+    public PerformanceOverlay(final GameLoop gameLoop, final String... layerNames) {
+        this.gameLoop = gameLoop;
+        this.layerNames = Arrays.copyOf(layerNames, layerNames.length);
+        this.layerTimes = new RollingStats[layerNames.length];
+        for (int i = 0; i < this.layerTimes.length; i++) {
+            this.layerTimes[i] = new RollingStats(MEASURED_FRAMES);
+        }
+    }
+
+    /**
+     * Shows the overlay if it is hidden, hides it otherwise.
+     */
+    public void toggle() {
+        this.visible = !this.visible;
+    }
+
+    /**
+     * Tells whether the overlay is shown.
+     * @return true if it is shown
+     */
+    public boolean isVisible() {
+        return this.visible;
+    }
+
+    /**
+     * Sets the {@link FramePacer} whose frame times are shown.
+     * @param framePacer the frame pacer of the game thread
+     */
+    public void setFramePacer(final FramePacer framePacer) {
+        this.pacer = framePacer;
+    }
+
+    /**
+     * Records the time taken to draw a layer.
+     * @param layer the index of the layer, in the order of the names given when creating the overlay
+     * @param nanos the time in nanoseconds
+     */
+    public void recordLayer(final int layer, final long nanos) {
+        this.layerTimes[layer].add(nanos);
+    }
+
+    @Override
+    public void resize(final Viewport viewport) {
+        // The text is drawn at the same size whatever the size of the game.
+    }
+
+    @Override
+    public void draw(final Graphics2D g, final FrameSnapshot frame, final double alpha, final DirtyRegion dirtyRegion) {
+        if (!this.visible) {
+            this.lastRefresh = -1;      // Measures are shown fresh as soon as the overlay is shown again.
+            return;
+        }
+        g.setFont(FONT);
+        final long now = System.nanoTime();
+        if (this.lastRefresh < 0 || now - this.lastRefresh >= REFRESH_NANOS) {
+            this.refresh(frame, now, g.getFontMetrics());
+        }
+        g.setColor(BACKGROUND);
+        g.fillRect(0, 0, this.width, this.height);
+        g.setColor(Color.WHITE);
+        final FontMetrics metrics = g.getFontMetrics();
+        for (int i = 0; i < this.lines.length; i++) {
+            g.drawString(this.lines[i], MARGIN, MARGIN + metrics.getAscent() + i * metrics.getHeight());
+        }
+        dirtyRegion.add(0, 0, this.width, this.height);
+    }
+
+    // Builds the text from the measures, and the size of the box that holds it.
+    private void refresh(final FrameSnapshot frame, final long now, final FontMetrics metrics) {
+        final FramePacer framePacer = this.pacer;
+        final String frames;
+        if (framePacer == null) {
+            frames = "FPS n/a";
+        } else {
+            final RollingStats frameTimes = framePacer.getFrameTimes();
+            final long median = frameTimes.getPercentile(MEDIAN);
+            final long slow = frameTimes.getPercentile(P99);
+            // The 99th percentile of the frame rate is the one of the slowest frames, so of the 99th percentile of the frame times.
+            frames = String.format("FPS p50 %.1f p99 %.1f (frame p50 %.2f p99 %.2f max %.2f ms)", toFps(median), toFps(slow),
+                    median / NANOS_PER_MILLI, slow / NANOS_PER_MILLI, frameTimes.getPercentile(MAX) / NANOS_PER_MILLI);
+        }
+        final RollingStats ticks = this.gameLoop.getTickTimes();
+        final StringBuilder layers = new StringBuilder("Layers");
+        for (int i = 0; i < this.layerNames.length; i++) {
+            layers.append(String.format(" %s %.2f", this.layerNames[i], this.layerTimes[i].getAverage() / NANOS_PER_MILLI));
+        }
+        final Runtime runtime = Runtime.getRuntime();
+        final long allocated = this.getAllocatedBytes();
+        final String allocation;
+        if (allocated < 0 || this.lastAllocated < 0 || this.lastRefresh < 0) {
+            allocation = "n/a";
+        } else {
+            // Threads that ended take their allocations with them, so the total can decrease.
+            final double rate = Math.max(0, allocated - this.lastAllocated) * NANOS_PER_SECOND / (now - this.lastRefresh);
+            allocation = String.format("%.1f MB/s", rate / BYTES_PER_MEGABYTE);
+        }
+        this.lines = new String[] {
+            frames,
+            String.format("Tick p50 %.3f ms p99 %.3f ms", ticks.getPercentile(MEDIAN) / NANOS_PER_MILLI,
+                    ticks.getPercentile(P99) / NANOS_PER_MILLI),
+            layers.append(" ms").toString(),
+            String.format("Enemies %d Bullets %d Turrets %d", frame.getEnemyCount(), frame.getBulletCount(), frame.getTurretCount()),
+            String.format("Threads %d", this.threads.getThreadCount()),
+            String.format("Heap %.1f MB, allocating %s", (runtime.totalMemory() - runtime.freeMemory()) / BYTES_PER_MEGABYTE, allocation),
+        };
+        this.lastAllocated = allocated;
+        this.lastRefresh = now;
+        int textWidth = 0;
+        for (final String line : this.lines) {
+            textWidth = Math.max(textWidth, metrics.stringWidth(line));
+        }
+        this.width = textWidth + 2 * MARGIN;
+        this.height = this.lines.length * metrics.getHeight() + 2 * MARGIN;
+    }
+
+    // Gives the frames per second of frames of the given time, or 0 if no frame has been measured.
+    private static double toFps(final long frameTime) {
+        return frameTime == 0 ? 0 : NANOS_PER_SECOND / frameTime;
+    }
+
+    // Gives the bytes allocated so far by the live threads, or -1 if the virtual machine does not measure them.
+    private long getAllocatedBytes() {
+        if (this.threads instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) this.threads;
+            if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                long total = 0;
+                for (final long bytes : sunThreads.getThreadAllocatedBytes(sunThreads.getAllThreadIds())) {
+                    total += Math.max(0, bytes);     // -1 for the threads that ended meanwhile.
+                }
+                return total;
+            }
+        }
+        return -1;
+    }
+}
@@ -2,9 +2,11 @@ package sgf.view.game;
 
 import java.awt.FlowLayout;
 import java.awt.Graphics;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 import sgf.controller.game.PlayerController;
 import sgf.utilities.ThreadAndViewObservable;
 
@@ -20,6 +22,7 @@ public class PlayerViewImpl extends AbstractPlayerView {
     private JLabel labelHP;
     private JLabel labelMoney;
     private JLabel labelScore;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();  // Whether a refresh of the labels is already scheduled.
 
     /**
      * Constructor that set the View.
@@ -58,7 +61,7 @@ public class PlayerViewImpl extends AbstractPlayerView {
         this.labelHP = new JLabel();
         this.labelMoney = new JLabel();
         this.labelScore = new JLabel();
-        this.update();
+        this.refresh();
         this.add(labelHP);
         this.add(labelMoney);
         this.add(labelScore);
@@ -72,8 +75,24 @@ public class PlayerViewImpl extends AbstractPlayerView {
         this.revalidate();
     }
 
+    /**
+     * Schedules a refresh of the labels on the event dispatch thread. Many updates in a row, as when several enemies are killed
+     * in the same tick, are coalesced into a single refresh.
+     */
     @Override
     public void update() {
+        if (this.refreshPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                this.refreshPending.set(false);     // Cleared before reading, so later changes schedule another refresh.
+                this.refresh();
+            });
+        }
+    }
+
+    private void refresh() {
+        if (this.labelHP == null) {
+            return;     // Not started yet: the labels are filled when they are created.
+        }
         this.labelHP.setText("HP: " + this.playerController.getPlayer().getCurrentHP() + "/" + this.playerController.getPlayer().getMaxHP());
         this.labelMoney.setText("Money: " + this.playerController.getPlayer().getMoney());
         this.labelScore.setText("Score: " + this.playerController.getPlayer().getScore());
@@ -1,10 +1,8 @@
 package sgf.view.map;
 
-import javax.swing.JPanel;
-
 /**
- * View abstract class for the map.
+ * View abstract class for the map, drawn as the background of the game view.
  */
-public abstract class AbstractMapView extends JPanel implements MapView {
-    private static final long serialVersionUID = -2563364239594034383L;
+public abstract class AbstractMapView implements MapView {
+
 }
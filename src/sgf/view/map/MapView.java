@@ -1,5 +1,6 @@
 package sgf.view.map;
 
+import java.awt.image.BufferedImage;
 import sgf.controller.map.MapController;
 import sgf.view.View;
 
@@ -14,4 +15,10 @@ public interface MapView extends View<MapController> {
      */
     int getMatrixSize();
 
+    /**
+     * Gives the image of the whole map, drawn as the background of the game.
+     * @return the image of the map, whose side is the matrix size times the size of a tile
+     */
+    BufferedImage getMapImage();
+
 }
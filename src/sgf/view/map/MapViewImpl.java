@@ -1,6 +1,5 @@
 package sgf.view.map;
 
-import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 import sgf.controller.map.MapController;
 import sgf.model.map.Map;
@@ -11,20 +10,17 @@ import sgf.utilities.ThreadAndViewObservable;
  * and composition of a grid and the creation and appearance of the corresponding final map image.
 **/
 public class MapViewImpl extends AbstractMapView {
-    private static final long serialVersionUID = -7141712951441617040L;
     private MapController mapController;
     private final int matrixSize;       // Number of tiles in each grid size.
     private BufferedImage completeMap;    // Map to be shown after creation process.
     private boolean isControllerSet;
-    private boolean ready;
 
     /**
-     * Constructor that initializes fields and links this panel with mouse listener.
+     * Constructor that initializes fields.
      * @param map The logic map of the current level
      */
     public MapViewImpl(final Map map) {
         this.matrixSize = map.getSize();
-        this.setVisible(false);
     }
 
     /**
@@ -37,11 +33,8 @@ public class MapViewImpl extends AbstractMapView {
     }
 
     @Override
-    public void paintComponent(final Graphics g) {
-        super.paintComponent(g);
-        if (this.ready) {
-            g.drawImage(completeMap, 0, 0, this.getWidth(), this.getHeight(), null);
-        }
+    public BufferedImage getMapImage() {
+        return this.completeMap;
     }
 
     @Override
@@ -57,8 +50,6 @@ public class MapViewImpl extends AbstractMapView {
     public void start() {
         if (isControllerSet) {
             ThreadAndViewObservable.register(this);
-            this.ready = true;
-            this.setVisible(true);
         } else {
             throw new IllegalStateException("Cannot invoke start() if the controller has not been set.");
         }
@@ -66,7 +57,6 @@ public class MapViewImpl extends AbstractMapView {
 
     @Override
     public void stop() {
-        this.ready = false;
-        this.setVisible(false);
+        // The map is static: it is drawn by the game view, which stops showing it.
     }
 }
@@ -1,12 +1,10 @@
 package sgf.view.turret;
 
-import javax.swing.JPanel;
+import java.awt.event.MouseListener;
 
 /**
- * Abstract class for {@link JPanel}-based views.
+ * Abstract class for the views of the turrets, drawn as a layer of the game view whose mouse events they handle.
  */
-public abstract class AbstractTurretView extends JPanel implements TurretView {
-
-    private static final long serialVersionUID = 4388122467351293914L;
+public abstract class AbstractTurretView implements TurretView, MouseListener {
 
 }
@@ -0,0 +1,119 @@
+package sgf.view.turret;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import sgf.managers.ImageLoaderManager;
+import sgf.view.Viewport;
+
+/**
+ * Cache of turret sprites rotated at a fixed number of angles evenly spread over a full turn, scaled to the size of a tile on screen
+ * and in the format of the screen.
+ * Every angle of every turret is rendered when the cache is created, that is when the game is resized: a sprite is then asked for at
+ * any angle and the one rendered at the nearest quantized angle is returned, so drawing a turret needs no allocation and no transform.
+ * The number of angles is chosen through the {@code sgf.rotations} system property, whose default value is 64.
+ */
+public class RotatedSpriteCache {
+    /**
+     * Name of the system property used to choose the number of angles.
+     */
+    public static final String PROPERTY = "sgf.rotations";
+    /**
+     * Number of angles used when the property is not set.
+     */
+    public static final int DEFAULT_ANGLES = 64;
+    private static final double FULL_TURN = 2 * Math.PI;
+    private final Viewport viewport;
+    private final int size;     // Side of the sprites before the rotation.
+    private final int angles;
+    private final BufferedImage[][] sprites;    // Rendered sprites, by turret ID and angle.
+
+    /**
+     * Creates a cache with the number of angles chosen through the {@code sgf.rotations} system property, rendering all the sprites.
+     * @param images the {@link ImageLoaderManager} of the turret sprites
+     * @param viewport the {@link Viewport} the sprites are drawn in, whose tiles are the sides of the sprites before the rotation
+     */
+    public RotatedSpriteCache(final ImageLoaderManager<Integer> images, final Viewport viewport) {
+        this(images, viewport, anglesFromProperty());
+    }
+
+    /**
+     * Creates a cache with the given number of angles, rendering all the sprites.
+     * @param images the {@link ImageLoaderManager} of the turret sprites
+     * @param viewport the {@link Viewport} the sprites are drawn in, whose tiles are the sides of the sprites before the rotation
+     * @param angles the number of angles every sprite is rendered at
+     */
+    public RotatedSpriteCache(final ImageLoaderManager<Integer> images, final Viewport viewport, final int angles) {
+        if (angles < 1) {
+            throw new IllegalArgumentException("The number of angles must be positive");
+        }
+        this.viewport = viewport;
+        this.size = viewport.getTileSize();
+        this.angles = angles;
+        this.sprites = new BufferedImage[images.getElements().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1][];
+        for (final int turretID : images.getElements()) {
+            final Image img = images.getImage(turretID);
+            this.sprites[turretID] = new BufferedImage[angles];
+            for (int i = 0; i < angles; i++) {
+                this.sprites[turretID][i] = this.render(img, i * FULL_TURN / angles);
+            }
+        }
+    }
+
+    private static int anglesFromProperty() {
+        final int angles = Integer.getInteger(PROPERTY, DEFAULT_ANGLES);
+        if (angles < 1) {
+            System.err.println("Invalid value for " + PROPERTY + ": " + angles + ", " + DEFAULT_ANGLES + " angles will be used");
+            return DEFAULT_ANGLES;
+        }
+        return angles;
+    }
+
+    /**
+     * Gives the number of angles every sprite is rendered at.
+     * @return the number of angles
+     */
+    public int getAngles() {
+        return this.angles;
+    }
+
+    /**
+     * Gives the index of the quantized angle nearest to the given one.
+     * @param rads the angle in radians, of any sign and size
+     * @return the index of the nearest angle, from 0 to the number of angles excluded
+     */
+    public int getAngleIndex(final double rads) {
+        return (int) Math.floorMod(Math.round(rads / FULL_TURN * this.angles), (long) this.angles);
+    }
+
+    /**
+     * Gives a turret sprite rotated at the quantized angle nearest to the given one. The rotated sprite is larger than the original
+     * one, which stays centered: it must be drawn moved by half of the growth on each side.
+     * @param turretID the ID of the turret sprite, which must be one of the image manager given when creating the cache
+     * @param rads the rotation angle in radians
+     * @return the rotated sprite, already rendered
+     */
+    public BufferedImage getSprite(final int turretID, final double rads) {
+        return this.sprites[turretID][this.getAngleIndex(rads)];
+    }
+
+    // Draws the image scaled to the size of the cache and rotated around its center, in an image large enough to contain it.
+    private BufferedImage render(final Image img, final double rads) {
+        final double sin = Math.abs(Math.sin(rads));
+        final double cos = Math.abs(Math.cos(rads));
+        final int side = (int) Math.ceil(this.size * (cos + sin));
+        final BufferedImage rotated = this.viewport.createImage(side, side, Transparency.TRANSLUCENT);
+        final Graphics2D g2d = rotated.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        final AffineTransform at = new AffineTransform();
+        at.translate((side - this.size) / 2.0, (side - this.size) / 2.0);
+        at.rotate(rads, this.size / 2.0, this.size / 2.0);
+        g2d.setTransform(at);
+        g2d.drawImage(img, 0, 0, this.size, this.size, null);
+        g2d.dispose();
+        return rotated;
+    }
+}
@@ -1,11 +1,12 @@
 package sgf.view.turret;
 
 import sgf.controller.turret.TurretController;
+import sgf.view.LayerView;
 import sgf.view.View;
 
 /**
  * Interface for the turrets' view.
  */
-public interface TurretView extends View<TurretController> {
+public interface TurretView extends View<TurretController>, LayerView {
 
 }
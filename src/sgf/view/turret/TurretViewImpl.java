@@ -2,17 +2,13 @@ package sgf.view.turret;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
-import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Image;
+import java.awt.Stroke;
 import java.awt.event.MouseEvent;
-import java.awt.event.MouseListener;
-import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.util.concurrent.Semaphore;
 import sgf.controller.turret.TurretController;
-import sgf.helpers.ImgTileSize;
 import sgf.managers.TurretImageManager;
+import sgf.model.game.FrameSnapshot;
 import sgf.model.game.Stoppable;
 import sgf.model.map.GridPosition;
 import sgf.model.map.Map;
@@ -20,36 +16,31 @@ import sgf.model.map.Position;
 import sgf.model.map.TileType;
 import sgf.model.turret.Turret;
 import sgf.utilities.ThreadAndViewObservable;
+import sgf.view.DirtyRegion;
+import sgf.view.Viewport;
 
 /**
- * View of a turret.
+ * Layer of the turrets, which also handles the clicks on the game.
  */
-public class TurretViewImpl extends AbstractTurretView implements MouseListener, Stoppable {
+public class TurretViewImpl extends AbstractTurretView implements Stoppable {
 
-    private static final long serialVersionUID = 5374324545913407109L; 
-    private final int matrixSize;
-    private final int tileSize;
-    private final BufferedImage image;
-    private final Semaphore semaphore;
+    private static final int RANGE_STROKE = 3;
+    private static final BasicStroke RANGE_OUTLINE = new BasicStroke(RANGE_STROKE);     // Shared, as strokes are immutable.
     private final TurretImageManager imgManager;
+    private Viewport viewport;
+    private RotatedSpriteCache sprites;     // Turret sprites already rotated and scaled to the tile size on screen.
     private final Map map;
     private boolean isControllerSet;
     private boolean ready;
     private TurretController turretController;
-    private Turret clickedTurret;
+    private volatile Turret clickedTurret;     // Selected on the event dispatch thread, drawn by the rendering thread.
 
     /**
      * Creates a new instance of the class.
      * @param map the {@link Map}
-     * @param semaphore the {@link Semaphore}
      */
-    public TurretViewImpl(final Map map, final Semaphore semaphore) {
-        this.setVisible(false);
+    public TurretViewImpl(final Map map) {
         this.map = map;
-        this.matrixSize = map.getSize();
-        this.tileSize = ImgTileSize.getTileSize();
-        this.image = new BufferedImage(matrixSize * this.tileSize, matrixSize * this.tileSize, BufferedImage.TYPE_INT_ARGB);
-        this.semaphore = semaphore;
         this.imgManager = new TurretImageManager();
     }
 
@@ -66,8 +57,6 @@ public class TurretViewImpl extends AbstractTurretView implements MouseListener,
         if (this.isControllerSet) {
             ThreadAndViewObservable.register(this);
             this.ready = true;
-            this.setVisible(true);
-            this.addMouseListener(this);
         } else {
             throw new IllegalStateException("Cannot invoke start() if the controller has not been set.");
         }
@@ -76,46 +65,16 @@ public class TurretViewImpl extends AbstractTurretView implements MouseListener,
     @Override
     public void stop() {
         this.ready = false;
-        this.setVisible(false);
-    }
-
-    /**
-     * Returns a rotated image.
-     * @param img the {@link Image} we want to rotate
-     * @param rads the rotation angle in radians
-     * @return the rotated image
-     */
-    public static BufferedImage rotateImage(final Image img, final double rads) {
-        final double sin = Math.abs(Math.sin(rads)), cos = Math.abs(Math.cos(rads));
-        final int w = img.getWidth(null);
-        final int h = img.getHeight(null);
-        final int newWidth = (int) Math.floor(w * cos + h * sin);
-        final int newHeight = (int) Math.floor(h * cos + w * sin);
-
-        final BufferedImage rotated = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_ARGB);
-        final Graphics2D g2d = rotated.createGraphics();
-        final AffineTransform at = new AffineTransform();
-        at.translate((newWidth - w) / 2, (newHeight - h) / 2);
-
-        final int x = w / 2;
-        final int y = h / 2;
-
-        at.rotate(rads, x, y);
-        g2d.setTransform(at);
-        g2d.drawImage(img, 0, 0, null);
-        g2d.dispose();
-
-        return rotated;
     }
 
     @Override
     public void mouseClicked(final MouseEvent e) {
-        if (e.getButton() == MouseEvent.BUTTON1) {
-            final int gridColumn = this.convertCoordinate(e.getX(), this.getWidth());
-            final int gridRow = this.convertCoordinate(e.getY(), this.getHeight());
+        if (this.ready && this.viewport != null && e.getButton() == MouseEvent.BUTTON1) {
+            final int gridColumn = this.viewport.toTile(e.getX());
+            final int gridRow = this.viewport.toTile(e.getY());
             final GridPosition pos = new GridPosition(gridRow, gridColumn);
             if (this.turretController.isTurretSelected()) {
-                if (this.map.getTileFromGridPosition(pos).getTileType() == TileType.GRASS) {
+                if (this.map.getTileType(gridRow, gridColumn) == TileType.GRASS) {
                     this.turretController.addSelectedTurret(new GridPosition(gridRow, gridColumn));
                 }
             } else {
@@ -137,46 +96,43 @@ public class TurretViewImpl extends AbstractTurretView implements MouseListener,
     public void mouseExited(final MouseEvent e) { }
 
     @Override
-    protected void paintComponent(final Graphics g) {
-        super.paintComponent(g);
-        if (this.ready) {
-            final var gImage = (Graphics2D) this.image.getGraphics();
-            gImage.setBackground(new Color(0, 0, 0, 0));
-            gImage.clearRect(0, 0, this.image.getWidth(), this.image.getHeight());
-            this.drawTurrets(gImage);
-            // Draws a circle representing the range of the turret
-            if (clickedTurret != null) {
-                final Position p = clickedTurret.getPosition();
-                gImage.setStroke(new BasicStroke(3));
-                gImage.setColor(Color.LIGHT_GRAY);
-                gImage.drawOval((int) (p.getX() - clickedTurret.getRange() + this.tileSize / 2), (int) (p.getY() - clickedTurret.getRange() + this.tileSize / 2), 
-                                (int) clickedTurret.getRange() * 2, (int) clickedTurret.getRange() * 2);
-            }
-            g.drawImage(image, 0, 0, this.getWidth(), this.getHeight(), null);
-        }
+    public void resize(final Viewport newViewport) {
+        this.viewport = newViewport;
+        this.sprites = new RotatedSpriteCache(this.imgManager, newViewport);
     }
 
-    private void drawTurrets(final Graphics2D gImage) {
-        semaphore.acquireUninterruptibly();
-        final var iterator = this.turretController.getTurretsIterator();
-        while (iterator.hasNext()) {
-            final var entry = iterator.next();
-            final int entryID = entry.getValue().getID();
-            final Position p = entry.getValue().getPosition();
-            final int origW = imgManager.getImage(entryID).getWidth(null);
-            final int origH = imgManager.getImage(entryID).getHeight(null);
-            final BufferedImage bimg = rotateImage(imgManager.getImage(entryID), entry.getValue().getAngle());
-            final double scaleX = (double) bimg.getWidth() / origW;
-            final double scaleY = (double) bimg.getHeight() / origH;
-            gImage.drawImage(bimg, (int) (p.getX() - (this.tileSize * (scaleX - 1) / 2)), (int) (p.getY() - (this.tileSize * (scaleY - 1) / 2)), (int) (this.tileSize * scaleX), (int) (this.tileSize * scaleY), null);
+    @Override
+    public void draw(final Graphics2D gImage, final FrameSnapshot frame, final double alpha, final DirtyRegion dirtyRegion) {
+        if (!this.ready) {
+            return;
+        }
+        this.drawTurrets(gImage, frame, alpha, dirtyRegion);
+        // Draws a circle representing the range of the turret
+        if (clickedTurret != null) {
+            final Position p = clickedTurret.getPosition();
+            final int radius = this.viewport.toScreen(clickedTurret.getRange());
+            final int x = this.viewport.toScreen(p.getX()) + this.viewport.getTileSize() / 2 - radius;
+            final int y = this.viewport.toScreen(p.getY()) + this.viewport.getTileSize() / 2 - radius;
+            final int diameter = radius * 2;
+            final Stroke stroke = gImage.getStroke();
+            gImage.setStroke(RANGE_OUTLINE);
+            gImage.setColor(Color.LIGHT_GRAY);
+            gImage.drawOval(x, y, diameter, diameter);
+            gImage.setStroke(stroke);   // The graphics is shared with the layers drawn after this one.
+            // The stroke is centered on the oval, so half of it falls outside.
+            dirtyRegion.add(x - RANGE_STROKE, y - RANGE_STROKE, diameter + 2 * RANGE_STROKE, diameter + 2 * RANGE_STROKE);
         }
-        semaphore.release();
     }
 
-    // Taken a value and the dimension in refers to, it returns an integer value that is the corresponding tile position in the dimension.
-    private int convertCoordinate(final int x, final double dimension) {
-        final double sizeOfASingleTile = dimension / this.matrixSize;
-        return (int) (x / sizeOfASingleTile);
+    private void drawTurrets(final Graphics2D gImage, final FrameSnapshot frame, final double alpha, final DirtyRegion dirtyRegion) {
+        for (int i = 0; i < frame.getTurretCount(); i++) {
+            final BufferedImage sprite = this.sprites.getSprite(frame.getTurretID(i), frame.getTurretAngle(i, alpha));
+            // The rotated sprite is larger than a tile, so it is moved back to keep it centered on the turret.
+            final int x = this.viewport.toScreen(frame.getTurretX(i)) - (sprite.getWidth() - this.viewport.getTileSize()) / 2;
+            final int y = this.viewport.toScreen(frame.getTurretY(i)) - (sprite.getHeight() - this.viewport.getTileSize()) / 2;
+            gImage.drawImage(sprite, x, y, null);
+            dirtyRegion.add(x, y, sprite.getWidth(), sprite.getHeight());
+        }
     }
 
 }
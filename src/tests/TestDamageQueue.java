@@ -0,0 +1,52 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.managers.DamageQueue;
+import sgf.managers.DamageQueueImpl;
+import sgf.model.enemies.Enemy;
+import sgf.model.enemies.EnemyFactoryImpl;
+import sgf.model.map.Position;
+
+/**
+ * Class for tests on the damage inflicted to the enemies once per tick.
+ */
+class TestDamageQueue {
+    private static final double DELTA = 1e-9;
+    private static final double HIT = 30;
+
+    /**
+     * Checks that the hits are added up per enemy and that a killed enemy is reported once.
+     */
+    @Test
+    void batchTest() {
+        final DamageQueue queue = new DamageQueueImpl();
+        final Enemy tank = new EnemyFactoryImpl().createTank(new Position(0, 0));
+        final Enemy plane = new EnemyFactoryImpl().createPlane(new Position(0, 0));   // Same position and different type.
+        final double tankLife = tank.getHP();
+        final List<Enemy> killed = new ArrayList<>();
+        queue.enqueue(tank, HIT);
+        queue.enqueue(tank, HIT);
+        queue.apply(killed::add);
+        assertEquals(tankLife - 2 * HIT, tank.getHP(), DELTA);
+        assertEquals(0, killed.size());
+        // The plane dies from the hits of a single tick, however many they are.
+        queue.enqueue(plane, plane.getHP() / 2);
+        queue.enqueue(tank, HIT);
+        queue.enqueue(plane, plane.getHP() / 2);
+        queue.apply(killed::add);
+        assertEquals(List.of(plane), killed);
+        assertEquals(tankLife - 3 * HIT, tank.getHP(), DELTA);
+        // Once dead, it is not hit nor killed again.
+        queue.enqueue(plane, HIT);
+        queue.apply(killed::add);
+        assertEquals(1, killed.size());
+        assertEquals(1, queue.getKills());
+        assertEquals(3 * HIT + new EnemyFactoryImpl().createPlane(new Position(0, 0)).getHP(), queue.getDamageDealt(), DELTA);
+    }
+}
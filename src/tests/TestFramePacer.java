@@ -0,0 +1,56 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.utilities.FramePacer;
+
+/**
+ * Class for tests on the pacing of the frames.
+ */
+class TestFramePacer {
+    private static final int FPS = 200;
+    private static final int FRAMES = 20;
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(1) / FPS;
+
+    /**
+     * Checks that frames never start before they are due, also when drawing them takes part of the period.
+     */
+    @Test
+    void pacedTest() throws InterruptedException {
+        final FramePacer pacer = new FramePacer(FPS);
+        assertEquals(FPS, pacer.getTargetFps());
+        pacer.awaitNextFrame();
+        final long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) {
+            TimeUnit.NANOSECONDS.sleep(PERIOD / 2);     // Drawing the frame.
+            pacer.awaitNextFrame();
+        }
+        assertTrue(System.nanoTime() - start >= FRAMES * PERIOD);
+        assertEquals(FRAMES, pacer.getFrames());
+        assertTrue(pacer.getAverageFrameTime() >= PERIOD);
+        assertTrue(pacer.getLastWorkTime() >= PERIOD / 2);
+        assertTrue(pacer.getMaxFrameTime() >= pacer.getLastFrameTime());
+        assertEquals(FRAMES, pacer.getFrameTimes().getCount());
+        assertEquals(pacer.getAverageFrameTime(), pacer.getFrameTimes().getAverage());    // The window still holds every frame.
+        assertEquals(pacer.getMaxFrameTime(), pacer.getFrameTimes().getPercentile(1));
+    }
+
+    /**
+     * Checks that an uncapped pacer measures frames without waiting.
+     */
+    @Test
+    void uncappedTest() throws InterruptedException {
+        final FramePacer pacer = new FramePacer(0);
+        assertEquals(0, pacer.getTargetFps());
+        pacer.awaitNextFrame();
+        pacer.awaitNextFrame();
+        assertEquals(1, pacer.getFrames());
+        assertThrows(IllegalArgumentException.class, () -> new FramePacer(-1));
+    }
+}
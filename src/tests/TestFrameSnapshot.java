@@ -0,0 +1,49 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.model.enemies.EnemyType;
+import sgf.model.game.FrameSnapshot;
+
+/**
+ * Class for tests on the blending of the snapshots between two ticks.
+ */
+class TestFrameSnapshot {
+    private static final double DELTA = 1e-9;
+    private static final long TICK_NANOS = 1000;
+    private static final long PUBLISH_TIME = 5000;
+
+    /**
+     * Checks that the fraction of the tick grows with the time elapsed since publishing, and stays between 0 and 1.
+     */
+    @Test
+    void alphaTest() {
+        final FrameSnapshot frame = new FrameSnapshot.Builder().build(1, PUBLISH_TIME, TICK_NANOS);
+        assertEquals(0, frame.getAlpha(PUBLISH_TIME - TICK_NANOS), DELTA);
+        assertEquals(0.25, frame.getAlpha(PUBLISH_TIME + TICK_NANOS / 4), DELTA);
+        assertEquals(1, frame.getAlpha(PUBLISH_TIME + 2 * TICK_NANOS), DELTA);
+        assertEquals(1, new FrameSnapshot.Builder().build(1).getAlpha(PUBLISH_TIME), DELTA);
+    }
+
+    /**
+     * Checks that entities are blended between their previous and current state, turrets turning the shortest way.
+     */
+    @Test
+    void blendTest() {
+        final FrameSnapshot frame = new FrameSnapshot.Builder()
+                .addEnemy(0, 10, 4, 20, 1, EnemyType.values()[0])
+                .addBullet(2, 2, 2, 6, 0)
+                .addTurret(0, 0, -0.1, 0.1, 0)
+                .addTurret(0, 0, Math.PI - 0.1, -Math.PI + 0.1, 0)
+                .build(1, PUBLISH_TIME, TICK_NANOS);
+        assertEquals(1, frame.getEnemyX(0, 0.25), DELTA);
+        assertEquals(12.5, frame.getEnemyY(0, 0.25), DELTA);
+        assertEquals(4, frame.getEnemyX(0), DELTA);
+        assertEquals(2, frame.getBulletX(0, 0.5), DELTA);
+        assertEquals(4, frame.getBulletY(0, 0.5), DELTA);
+        assertEquals(0, frame.getTurretAngle(0, 0.5), DELTA);
+        assertEquals(Math.PI, frame.getTurretAngle(1, 0.5), DELTA);
+    }
+}
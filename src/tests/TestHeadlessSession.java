@@ -0,0 +1,51 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.managers.HeadlessSession;
+import sgf.managers.HeadlessSessionImpl;
+import sgf.model.game.PlayerImpl;
+import sgf.model.game.SessionResult;
+import sgf.model.map.GridPosition;
+
+/**
+ * Class for tests on the headless sessions.
+ */
+class TestHeadlessSession {
+
+    private static final int LEVEL_ID = 1;
+    private static final int TURRET_ID = 2;
+    private static final int TURRET_PRICE = 400;
+    private static final GridPosition GRASS = new GridPosition(11, 9);
+    private static final GridPosition PATH = new GridPosition(12, 1);
+
+    /**
+     * Checks that turrets can only be placed on free grass tiles, paying for them.
+     */
+    @Test
+    void placementTest() {
+        final HeadlessSession session = new HeadlessSessionImpl(LEVEL_ID);
+        assertFalse(session.placeTurret(TURRET_ID, PATH));
+        assertTrue(session.placeTurret(TURRET_ID, GRASS));
+        assertFalse(session.placeTurret(TURRET_ID, GRASS));
+        assertEquals(PlayerImpl.STARTING_MONEY - TURRET_PRICE, session.getPlayer().getMoney());
+        assertThrows(IllegalArgumentException.class, () -> session.placeTurret(-1, GRASS));
+    }
+
+    /**
+     * Checks that a level without turrets is played to the end and lost.
+     */
+    @Test
+    void undefendedRunTest() {
+        final HeadlessSession session = new HeadlessSessionImpl(LEVEL_ID);
+        final SessionResult result = session.run();
+        assertFalse(result.isWon());
+        assertEquals(0, result.getHP());
+        assertThrows(IllegalStateException.class, session::run);
+    }
+}
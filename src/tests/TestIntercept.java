@@ -0,0 +1,50 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.model.map.Path;
+import sgf.model.map.PathImpl;
+import sgf.model.map.Position;
+import sgf.utilities.Intercept;
+
+/**
+ * Class for tests on the time a bullet needs to meet an enemy.
+ */
+class TestIntercept {
+    private static final double DELTA = 1e-6;
+    private static final double LENGTH = 1000;
+    private static final double DISTANCE = 300;
+    private static final double BULLET_STEP = 5;
+    private static final double SHORT_LENGTH = 10;
+
+    /**
+     * Checks that at the found time the bullet has travelled exactly as far as the enemy is from the turret.
+     */
+    @Test
+    void meetingTest() {
+        final Path straight = new PathImpl(List.of(new Position(0, 0), new Position(LENGTH, 0)));
+        final Position origin = new Position(0, DISTANCE);
+        final double time = Intercept.timeToIntercept(straight, 0, 1, origin, BULLET_STEP);
+        assertEquals(Math.sqrt(DISTANCE * DISTANCE / (BULLET_STEP * BULLET_STEP - 1)), time, DELTA);
+        // Along a bent path the meeting is on the second segment.
+        final Path bent = new PathImpl(List.of(new Position(0, 0), new Position(SHORT_LENGTH, 0), new Position(SHORT_LENGTH, LENGTH)));
+        final double bentTime = Intercept.timeToIntercept(bent, 0, 1, origin, BULLET_STEP);
+        assertTrue(bentTime > SHORT_LENGTH);
+        assertEquals(bentTime * BULLET_STEP, bent.getPositionAt(bentTime).distanceTo(origin), DELTA);
+    }
+
+    /**
+     * Checks that an enemy leaving the path before the bullet can reach it is not met.
+     */
+    @Test
+    void missTest() {
+        final Path path = new PathImpl(List.of(new Position(0, 0), new Position(SHORT_LENGTH, 0)));
+        assertTrue(Double.isNaN(Intercept.timeToIntercept(path, 0, 1, new Position(0, DISTANCE), BULLET_STEP)));
+        assertEquals(0, Intercept.timeToIntercept(path, SHORT_LENGTH / 2, 1, new Position(SHORT_LENGTH / 2, 0), BULLET_STEP), DELTA);
+    }
+}
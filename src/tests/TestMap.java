@@ -1,11 +1,15 @@
 package tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import java.util.Optional;
 import org.junit.Test;
 import sgf.helpers.MapLoader;
 import sgf.helpers.MapLoaderImpl;
+import sgf.model.map.Direction;
 import sgf.model.map.GridPosition;
 import sgf.model.map.Map;
+import sgf.model.map.TileType;
 
 /**
  * Test class to check correct reading from file.
@@ -47,6 +51,27 @@ public class TestMap {
         assertEquals(mapLoader.getMap().getSize(), SIZE_MAP1);
     }
 
+    /**
+     * Checks that the lookups by row and column agree with the {@link Tile}s of the {@link Map}, inside and outside the grid.
+     */
+    @Test
+    public void checkLookupsByRowAndColumn() {
+        final Map map = new MapLoaderImpl(1).getMap();
+        assertEquals(map.getTiles().size(), SIZE_MAP1 * SIZE_MAP1);
+        for (final var entry : map.getTiles().entrySet()) {
+            final GridPosition position = entry.getKey();
+            assertEquals(map.getTileType(position.getRow(), position.getColumn()), entry.getValue().getTileType());
+            assertEquals(map.getTileDirection(position.getRow(), position.getColumn()), entry.getValue().getTileDirection());
+        }
+        assertEquals(map.getTileType(START_TILE_MAP1, 0), TileType.START_PATH);
+        assertEquals(map.getTileDirection(START_TILE_MAP1, 0), Optional.of(Direction.RIGHT));
+        assertEquals(map.getTileDirection(END_TILE_ROW, END_TILE_COLUMN), Optional.of(Direction.RIGHT));
+        assertEquals(map.getTileDirection(0, 0), Optional.empty());
+        assertNull(map.getTileType(-1, 0));
+        assertNull(map.getTileType(0, SIZE_MAP1));
+        assertNull(map.getTileFromGridPosition(new GridPosition(SIZE_MAP1, 0)));
+    }
+
     /**
      * File loaded shows a number 9 and there is no {@link Tile} that corresponds to this number.
      */
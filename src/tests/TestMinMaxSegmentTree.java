@@ -0,0 +1,74 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.utilities.MinMaxSegmentTree;
+
+/**
+ * Class for tests on the min-max segment tree.
+ */
+class TestMinMaxSegmentTree {
+
+    private static final int SIZE = 37;
+    private static final int ROUNDS = 200;
+    private static final long SEED = 42;
+    private static final double MAX_VALUE = 200;
+    private final MinMaxSegmentTree tree = new MinMaxSegmentTree();
+
+    /**
+     * Checks a simple range, with an excluded value.
+     */
+    @Test
+    void simpleTest() {
+        final double[] values = {5, 1, Double.NaN, 9, 3};
+        this.tree.build(values, values.length);
+        assertEquals(3, this.tree.indexOfMax(0, values.length));
+        assertEquals(1, this.tree.indexOfMin(0, values.length));
+        assertEquals(0, this.tree.indexOfMax(0, 3));
+        assertEquals(4, this.tree.indexOfMin(2, values.length));
+        assertEquals(-1, this.tree.indexOfMax(2, 3));
+        assertEquals(-1, this.tree.indexOfMin(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> this.tree.indexOfMax(0, values.length + 1));
+    }
+
+    /**
+     * Compares every range of random values with a linear scan.
+     */
+    @Test
+    void randomTest() {
+        final Random random = new Random(SEED);
+        final double[] values = new double[SIZE];
+        for (int round = 0; round < ROUNDS; round++) {
+            final int size = random.nextInt(SIZE + 1);
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(4) == 0 ? Double.NaN : random.nextDouble() * MAX_VALUE;
+            }
+            this.tree.build(values, size);
+            for (int from = 0; from <= size; from++) {
+                for (int to = from; to <= size; to++) {
+                    assertEquals(value(values, scan(values, from, to, true)), value(values, this.tree.indexOfMax(from, to)));
+                    assertEquals(value(values, scan(values, from, to, false)), value(values, this.tree.indexOfMin(from, to)));
+                }
+            }
+        }
+    }
+
+    private static int scan(final double[] values, final int from, final int to, final boolean max) {
+        int best = -1;
+        for (int i = from; i < to; i++) {
+            if (!Double.isNaN(values[i]) && (best < 0 || (max ? values[i] > values[best] : values[i] < values[best]))) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static double value(final double[] values, final int index) {
+        return index < 0 ? Double.NaN : values[index];
+    }
+}
@@ -0,0 +1,63 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.helpers.ImgTileSize;
+import sgf.helpers.MapLoaderImpl;
+import sgf.model.map.GridPosition;
+import sgf.model.map.Map;
+import sgf.model.map.Path;
+import sgf.model.map.PathImpl;
+import sgf.model.map.Position;
+
+/**
+ * Class for tests on the {@link Path} walked by the enemies.
+ */
+class TestPath {
+    private static final double DELTA = 1e-9;
+    private static final double SIDE = 10;
+    private static final double HALF = 5;
+    private static final double FRACTION = 0.25;
+
+    /**
+     * Checks the length, the merged segments and the points of a simple path.
+     */
+    @Test
+    void polylineTest() {
+        // Two points on the first side and three on the second: they are merged in two segments.
+        final Path path = new PathImpl(List.of(new Position(0, 0), new Position(HALF, 0), new Position(SIDE, 0),
+                new Position(SIDE, HALF), new Position(SIDE, SIDE), new Position(SIDE, SIDE)));
+        assertEquals(SIDE * 2, path.getLength(), DELTA);
+        assertEquals(3, path.getPointsCount());
+        assertEquals(SIDE, path.getDistanceAt(1), DELTA);
+        assertEquals(new Position(HALF, 0), path.getPositionAt(HALF));
+        assertEquals(new Position(SIDE, HALF + FRACTION), path.getPositionAt(SIDE + HALF + FRACTION));
+        // Distances outside the path are clamped to its ends.
+        assertEquals(new Position(0, 0), path.getPositionAt(-1));
+        assertEquals(new Position(SIDE, SIDE), path.getPositionAt(SIDE * 3));
+        assertThrows(IllegalArgumentException.class, () -> new PathImpl(List.of(new Position(0, 0), new Position(0, 0))));
+    }
+
+    /**
+     * Checks that the path of a level goes through the corners of all its path tiles, at a tile of distance one from the other.
+     */
+    @Test
+    void levelPathTest() {
+        final Map map = new MapLoaderImpl(1).getMap();
+        final Path path = map.getPath();
+        final int tileSize = ImgTileSize.getTileSize();
+        final List<GridPosition> tiles = map.getPathTiles();
+        assertEquals(tiles.size() * tileSize, path.getLength(), DELTA);     // One tile more to leave the map.
+        for (int i = 0; i < tiles.size(); i++) {
+            final GridPosition tile = tiles.get(i);
+            assertEquals(new Position(tile.getColumn() * tileSize, tile.getRow() * tileSize), path.getPositionAt(i * tileSize));
+        }
+        final Position out = new Position(0, 0);
+        assertEquals(path.getPositionAt(FRACTION * tileSize), path.getPositionAt(FRACTION * tileSize, out));
+    }
+}
@@ -0,0 +1,69 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.model.game.Player;
+import sgf.model.game.PlayerImpl;
+
+/**
+ * Class for tests on the changes of the stats of the {@link Player}.
+ */
+class TestPlayer {
+    private static final int THREADS = 4;
+    private static final int CHANGES = 10_000;
+
+    /**
+     * Checks that no change is lost when many threads change the money and the score together.
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void concurrentChangesTest() throws InterruptedException {
+        final Player player = new PlayerImpl();
+        final AtomicInteger losses = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < CHANGES; j++) {
+                    player.changeMoney(1);
+                    player.changeScore(2);
+                    if (player.changeCurrentHP(-1)) {
+                        losses.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(PlayerImpl.STARTING_MONEY + THREADS * CHANGES, player.getMoney());
+        assertEquals(PlayerImpl.STARTING_SCORE + 2 * THREADS * CHANGES, player.getScore());
+        assertEquals(0, player.getCurrentHP());
+        assertEquals(1, losses.get());     // The game is lost only once.
+    }
+
+    /**
+     * Checks that money and score never go below zero.
+     */
+    @Test
+    void notNegativeTest() {
+        final Player player = new PlayerImpl();
+        assertFalse(player.changeMoney(-PlayerImpl.STARTING_MONEY - 1));
+        assertEquals(PlayerImpl.STARTING_MONEY, player.getMoney());
+        assertTrue(player.changeMoney(-PlayerImpl.STARTING_MONEY));
+        assertEquals(0, player.getMoney());
+        assertFalse(player.changeScore(-1));
+        assertFalse(player.changeCurrentHP(1));     // Already at the maximum.
+        assertEquals(player.getMaxHP(), player.getCurrentHP());
+    }
+}
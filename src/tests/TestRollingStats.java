@@ -0,0 +1,50 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.utilities.RollingStats;
+
+/**
+ * Class for tests on the rolling windows of samples.
+ */
+class TestRollingStats {
+    private static final int SIZE = 100;
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Checks the percentiles and the average of a window that is not full yet.
+     */
+    @Test
+    void percentileTest() {
+        final RollingStats stats = new RollingStats(SIZE);
+        assertEquals(0, stats.getPercentile(0.5));
+        for (int i = SIZE; i > 0; i--) {
+            stats.add(i);
+        }
+        assertEquals(SIZE, stats.getCount());
+        assertEquals(1, stats.getPercentile(0));
+        assertEquals(50, stats.getPercentile(0.5));
+        assertEquals(99, stats.getPercentile(0.99));
+        assertEquals(SIZE, stats.getPercentile(1));
+        assertEquals(50.5, stats.getAverage(), DELTA);
+        assertThrows(IllegalArgumentException.class, () -> stats.getPercentile(2));
+    }
+
+    /**
+     * Checks that the oldest samples are forgotten once the window is full.
+     */
+    @Test
+    void windowTest() {
+        final RollingStats stats = new RollingStats(2);
+        stats.add(1);
+        stats.add(2);
+        stats.add(6);
+        assertEquals(2, stats.getCount());
+        assertEquals(4, stats.getAverage(), DELTA);
+        assertEquals(2, stats.getPercentile(0));
+        assertThrows(IllegalArgumentException.class, () -> new RollingStats(0));
+    }
+}
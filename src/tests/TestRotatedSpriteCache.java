@@ -0,0 +1,59 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.managers.TurretImageManager;
+import sgf.view.Viewport;
+import sgf.view.turret.RotatedSpriteCache;
+
+/**
+ * Class for tests on the cache of the rotated turret sprites.
+ */
+class TestRotatedSpriteCache {
+    private static final int ANGLES = 8;
+    private static final int SIZE = 40;
+    private static final double STEP = 2 * Math.PI / ANGLES;
+    private static final Viewport VIEWPORT = new Viewport(1, SIZE, null);
+
+    /**
+     * Checks that angles are rounded to the nearest quantized one, whatever their sign and size.
+     */
+    @Test
+    void angleIndexTest() {
+        final RotatedSpriteCache cache = new RotatedSpriteCache(new TurretImageManager(), VIEWPORT, ANGLES);
+        assertEquals(0, cache.getAngleIndex(0));
+        assertEquals(1, cache.getAngleIndex(STEP * 0.6));
+        assertEquals(ANGLES - 1, cache.getAngleIndex(-STEP));
+        assertEquals(0, cache.getAngleIndex(2 * Math.PI - STEP * 0.4));
+        assertEquals(2, cache.getAngleIndex(4 * Math.PI + 2 * STEP));
+        assertThrows(IllegalArgumentException.class, () -> new RotatedSpriteCache(new TurretImageManager(), VIEWPORT, 0));
+    }
+
+    /**
+     * Checks that a sprite is rendered once for every quantized angle, large enough to contain the rotated tile.
+     */
+    @Test
+    void spriteTest() {
+        final TurretImageManager images = new TurretImageManager();
+        final RotatedSpriteCache cache = new RotatedSpriteCache(images, VIEWPORT, ANGLES);
+        for (final int turretID : images.getElements()) {
+            for (int i = 0; i < ANGLES; i++) {
+                assertNotNull(cache.getSprite(turretID, i * STEP));     // Every angle is rendered before it is asked for.
+            }
+        }
+        final BufferedImage straight = cache.getSprite(0, 0);
+        assertEquals(SIZE, straight.getWidth());
+        assertSame(straight, cache.getSprite(0, STEP * 0.4));
+        final BufferedImage diagonal = cache.getSprite(0, STEP);
+        assertNotSame(straight, diagonal);
+        assertEquals((int) Math.ceil(SIZE * Math.sqrt(2)), diagonal.getWidth());
+    }
+}
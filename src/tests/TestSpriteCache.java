@@ -0,0 +1,77 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+
+import sgf.managers.SpriteCache;
+import sgf.managers.TileImageManager;
+import sgf.model.map.TileType;
+
+/**
+ * Class for tests on the cache of the sprites.
+ */
+class TestSpriteCache {
+    private static final String GRASS = "mapTiles" + File.separator + "grass.png";
+    private static final String SAND = "mapTiles" + File.separator + "sand.png";
+    private static final String WATER = "mapTiles" + File.separator + "water.png";
+    private static final int SIZE = 20;
+    private static final long LARGE = 1L << 30;
+
+    /**
+     * Checks that a file is decoded once, and that every size is a different sprite.
+     */
+    @Test
+    void hitTest() {
+        final SpriteCache cache = new SpriteCache(LARGE);
+        final BufferedImage grass = cache.get(GRASS);
+        assertSame(grass, cache.get(GRASS));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        final BufferedImage small = cache.get(GRASS, SIZE, SIZE);
+        assertEquals(SIZE, small.getWidth());
+        assertNotSame(grass, small);
+        assertSame(small, cache.get(GRASS, SIZE, SIZE));
+        assertEquals(2, cache.size());
+        assertTrue(cache.getBytes() >= (long) SIZE * SIZE * Integer.BYTES);
+    }
+
+    /**
+     * Checks that the least recently used sprite is evicted when the capacity is exceeded.
+     */
+    @Test
+    void evictionTest() {
+        final SpriteCache measure = new SpriteCache(LARGE);
+        measure.get(GRASS);
+        measure.get(SAND);
+        final SpriteCache cache = new SpriteCache(measure.getBytes());     // Room for two tiles of the same size.
+        final BufferedImage grass = cache.get(GRASS);
+        final BufferedImage sand = cache.get(SAND);
+        assertSame(grass, cache.get(GRASS));
+        cache.get(WATER);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertSame(grass, cache.get(GRASS));
+        assertNotSame(sand, cache.get(SAND));   // The least recently used one has been evicted and loaded again.
+        assertTrue(cache.getBytes() <= measure.getBytes());
+    }
+
+    /**
+     * Checks that the image managers keep no image of their own, but give the ones held by the shared cache.
+     */
+    @Test
+    void managerTest() {
+        final TileImageManager tiles = new TileImageManager();
+        assertSame(SpriteCache.shared().get(GRASS), tiles.getImage(TileType.GRASS));
+        assertSame(tiles.getImage(TileType.GRASS), new TileImageManager().getImage(TileType.GRASS));
+        final BufferedImage small = tiles.getImage(TileType.GRASS, SIZE, SIZE, null);
+        assertEquals(SIZE, small.getWidth());
+        assertSame(SpriteCache.shared().get(GRASS, SIZE, SIZE), small);
+    }
+}